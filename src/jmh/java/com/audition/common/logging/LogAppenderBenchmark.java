@@ -0,0 +1,220 @@
+package com.audition.common.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.util.Duration;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import net.logstash.logback.appender.LoggingEventAsyncDisruptorAppender;
+import net.logstash.logback.appender.listener.AppenderListener;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+/**
+ * Time a request thread spends in one {@code logger.info} call, by appender, with four threads logging at once.
+ *
+ * <ul>
+ *     <li>{@code console}: the encoder and the write run on the calling thread, as with a plain
+ *     {@code ConsoleAppender}</li>
+ *     <li>{@code async}: the default profile, logback's {@code AsyncAppender} in front of the pattern encoder</li>
+ *     <li>{@code disruptor}: the {@code prod} profile, a ring buffer in front of the JSON encoder</li>
+ * </ul>
+ *
+ * <p>
+ * The events go to a stream that discards them after {@code sinkLatencyMicros}, standing in for a slow stdout. With a
+ * slow sink the asynchronous appenders drop events once their buffer is full; the drops of the {@code disruptor}
+ * appender in each iteration are reported as the {@code droppedEvents} secondary result.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class LogAppenderBenchmark {
+
+    private static final int QUEUE_SIZE = 8192;
+    private static final String PATTERN = "%d{yyyy-MM-dd HH:mm:ss.SSS} %5p [%X{traceId:-},%X{spanId:-}] [%15.15t] "
+        + "%-40.40logger{39} : %m%n";
+
+    @Param({"console", "async", "disruptor"})
+    String appender;
+
+    @Param({"0", "50"})
+    long sinkLatencyMicros;
+
+    private LoggerContext context;
+    private Logger logger;
+    private Appender<ILoggingEvent> attached;
+    private OutputStreamAppender<ILoggingEvent> sink;
+
+    @Setup
+    public void setUp() {
+        context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        sink = new OutputStreamAppender<>();
+        sink.setContext(context);
+        sink.setEncoder("disruptor".equals(appender) ? jsonEncoder() : patternEncoder());
+        sink.setOutputStream(new SlowOutputStream(TimeUnit.MICROSECONDS.toNanos(sinkLatencyMicros)));
+        sink.start();
+        attached = switch (appender) {
+            case "console" -> sink;
+            case "async" -> asyncAppender();
+            case "disruptor" -> disruptorAppender();
+            default -> throw new IllegalArgumentException(appender);
+        };
+        logger = context.getLogger("com.audition.benchmark.RequestLogging");
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(attached);
+    }
+
+    @TearDown
+    public void tearDown() {
+        logger.detachAppender(attached);
+        attached.stop();
+        sink.stop();
+    }
+
+    @Benchmark
+    public void info(final RequestThread thread, final Drops drops) {
+        logger.info("GET /posts/{}/comments returned {} in {} ms", thread.postId, 200, 12);
+    }
+
+    private Encoder<ILoggingEvent> patternEncoder() {
+        final PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+        return encoder;
+    }
+
+    private Encoder<ILoggingEvent> jsonEncoder() {
+        final LogstashEncoder encoder = new LogstashEncoder();
+        encoder.setContext(context);
+        encoder.addIncludeMdcKeyName("traceId");
+        encoder.addIncludeMdcKeyName("spanId");
+        encoder.setCustomFields("{\"service\":\"audition-api\"}");
+        encoder.start();
+        return encoder;
+    }
+
+    private Appender<ILoggingEvent> asyncAppender() {
+        final AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setQueueSize(QUEUE_SIZE);
+        async.setDiscardingThreshold(QUEUE_SIZE / 5);
+        async.setNeverBlock(true);
+        async.addAppender(sink);
+        async.start();
+        return async;
+    }
+
+    private Appender<ILoggingEvent> disruptorAppender() {
+        final LoggingEventAsyncDisruptorAppender disruptor = new LoggingEventAsyncDisruptorAppender();
+        disruptor.setContext(context);
+        disruptor.setRingBufferSize(QUEUE_SIZE);
+        disruptor.setAppendTimeout(Duration.buildByMilliseconds(0));
+        disruptor.setWaitStrategyType("sleeping");
+        disruptor.addListener(new DroppedLogEvents());
+        disruptor.addListener(new AppenderListener<>() {
+            @Override
+            public void eventAppendFailed(final Appender<ILoggingEvent> failed, final ILoggingEvent event,
+                final Throwable reason) {
+                Drops.count();
+            }
+        });
+        disruptor.addAppender(sink);
+        disruptor.start();
+        return disruptor;
+    }
+
+    /**
+     * The trace context of one request thread, in the MDC as Micrometer Tracing puts it there.
+     */
+    @State(Scope.Thread)
+    public static class RequestThread {
+
+        int postId;
+
+        @Setup
+        public void setUp() {
+            postId = (int) Thread.currentThread().threadId();
+            MDC.put("traceId", "463ac35c9f6413ad48485a3953bb6124");
+            MDC.put("spanId", "a2fb4a1d1a96d312");
+        }
+
+        @TearDown
+        public void tearDown() {
+            MDC.clear();
+        }
+    }
+
+    /**
+     * Events dropped on this thread, counted by a listener on the {@code disruptor} appender, which reports a full ring
+     * buffer on the logging thread. JMH sums the counts of the threads. Reset before each iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Drops {
+
+        private static final ThreadLocal<Drops> CURRENT = new ThreadLocal<>();
+
+        public long droppedEvents;
+
+        @Setup(org.openjdk.jmh.annotations.Level.Iteration)
+        public void reset() {
+            droppedEvents = 0;
+            CURRENT.set(this);
+        }
+
+        static void count() {
+            final Drops drops = CURRENT.get();
+            if (drops != null) {
+                drops.droppedEvents++;
+            }
+        }
+    }
+
+    /**
+     * Discards what is written, after waiting as long as a write to a slow terminal or pipe would take.
+     */
+    private static final class SlowOutputStream extends OutputStream {
+
+        private final long latencyNanos;
+
+        SlowOutputStream(final long latencyNanos) {
+            this.latencyNanos = latencyNanos;
+        }
+
+        @Override
+        public void write(final int b) {
+            // single bytes are not written by the encoders
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) {
+            if (latencyNanos > 0) {
+                LockSupport.parkNanos(latencyNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.audition.common.logging;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+/**
+ * Overhead of {@link LoggingInterceptor} on one upstream exchange, compared with calling the execution directly.
+ * The response body is read and the response closed in both cases, since a captured body is only logged on close.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LoggingInterceptorBenchmark {
+
+    private static final byte[] NO_BODY = new byte[0];
+
+    @Param({"0.0", "0.01", "1.0"})
+    double sampleRate;
+
+    @Param({"false", "true"})
+    boolean captureBody;
+
+    private LoggingInterceptor interceptor;
+    private MockClientHttpRequest request;
+    private ClientHttpRequestExecution execution;
+
+    @Setup
+    public void setUp() {
+        HttpLoggingProperties properties = new HttpLoggingProperties();
+        properties.setSampleRate(sampleRate);
+        properties.setCaptureBody(captureBody);
+        properties.setBodySampleRate(1.0);
+        interceptor = new LoggingInterceptor(properties);
+        request = new MockClientHttpRequest(HttpMethod.GET, URI.create("http://localhost/posts/1"));
+        byte[] body = "{\"userId\":1,\"id\":1,\"title\":\"sunt aut facere\",\"body\":\"quia et suscipit\"}"
+            .getBytes(StandardCharsets.UTF_8);
+        execution = (httpRequest, requestBody) -> new MockClientHttpResponse(body, HttpStatus.OK);
+    }
+
+    @Benchmark
+    public long direct() throws IOException {
+        return consume(execution.execute(request, NO_BODY));
+    }
+
+    @Benchmark
+    public long intercepted() throws IOException {
+        return consume(interceptor.intercept(request, NO_BODY, execution));
+    }
+
+    private static long consume(final ClientHttpResponse response) throws IOException {
+        try (response; InputStream body = response.getBody()) {
+            return body.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.audition.integration;
+
+import com.audition.configuration.WebServiceConfiguration;
+import com.audition.model.AuditionComment;
+import com.audition.model.AuditionPost;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * In-process stand-in for the upstream posts and comments API on a random loopback port, so that benchmarks measure
+ * this application rather than the network and the public upstream.
+ *
+ * <p>
+ * It serves generated data shaped like the upstream's, for the paths and query parameters the integration clients
+ * use: {@code /posts}, {@code /posts/{id}}, {@code /posts/{id}/comments} and {@code /comments}, filtered by repeated
+ * {@code id}, {@code userId} and {@code postId} parameters.
+ * </p>
+ *
+ * <p>
+ * Every response can be delayed by a fixed latency, and a share of them replaced by {@code 503 Service Unavailable},
+ * to see how the application behaves with a slow or failing upstream.
+ * </p>
+ */
+public final class StubUpstream implements AutoCloseable {
+
+    private static final int BACKLOG = 1024;
+    private static final String TEXT = "quia et suscipit suscipit recusandae consequuntur expedita et cum reprehenderit "
+        + "molestiae ut ut quas totam nostrum rerum est autem sunt rem eveniet architecto";
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ObjectMapper objectMapper = new WebServiceConfiguration().objectMapper();
+    private final List<AuditionPost> posts;
+    private final List<AuditionComment> comments;
+    private final Duration latency;
+    private final double errorRate;
+
+    private StubUpstream(final HttpServer server, final List<AuditionPost> posts,
+        final List<AuditionComment> comments, final Duration latency, final double errorRate) {
+        this.server = server;
+        this.posts = posts;
+        this.comments = comments;
+        this.latency = latency;
+        this.errorRate = errorRate;
+    }
+
+    /**
+     * Starts a stub serving {@code postCount} posts with {@code commentsPerPost} comments each.
+     *
+     * @param postCount       the number of posts, the upstream has 100
+     * @param commentsPerPost the number of comments per post, the upstream has 5
+     * @return the running stub
+     * @throws IOException if the server socket cannot be opened
+     */
+    public static StubUpstream start(final int postCount, final int commentsPerPost) throws IOException {
+        return start(postCount, commentsPerPost, Duration.ZERO, 0.0);
+    }
+
+    /**
+     * Starts a stub with injected latency and errors.
+     *
+     * @param postCount       the number of posts, the upstream has 100
+     * @param commentsPerPost the number of comments per post, the upstream has 5
+     * @param latency         added to every response
+     * @param errorRate       the share of requests, from 0 to 1, answered with {@code 503}
+     * @return the running stub
+     * @throws IOException if the server socket cannot be opened
+     */
+    public static StubUpstream start(final int postCount, final int commentsPerPost, final Duration latency,
+        final double errorRate) throws IOException {
+        final HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+            BACKLOG);
+        final StubUpstream upstream = new StubUpstream(server, posts(postCount), comments(postCount, commentsPerPost),
+            latency, errorRate);
+        server.createContext("/posts", upstream.withFaults(upstream::handlePosts));
+        server.createContext("/comments", upstream.withFaults(upstream::handleComments));
+        server.setExecutor(upstream.executor);
+        server.start();
+        return upstream;
+    }
+
+    public String postsUrl() {
+        return baseUrl() + "/posts";
+    }
+
+    public String commentsUrl() {
+        return baseUrl() + "/comments";
+    }
+
+    /**
+     * Generates posts shaped like the upstream's, ten per user.
+     *
+     * @param count the number of posts
+     * @return posts with ids from 1 to {@code count}
+     */
+    public static List<AuditionPost> posts(final int count) {
+        return IntStream.rangeClosed(1, count).mapToObj(id -> {
+            final AuditionPost post = new AuditionPost();
+            post.setId(id);
+            post.setUserId((id - 1) / 10 + 1);
+            post.setTitle("sunt aut facere repellat provident occaecati excepturi optio " + id);
+            post.setBody(TEXT);
+            return post;
+        }).toList();
+    }
+
+    /**
+     * Generates comments shaped like the upstream's.
+     *
+     * @param postCount       the number of posts commented on
+     * @param commentsPerPost the number of comments per post
+     * @return comments with ids from 1, grouped by post
+     */
+    public static List<AuditionComment> comments(final int postCount, final int commentsPerPost) {
+        return IntStream.range(0, postCount * commentsPerPost).mapToObj(index -> {
+            final AuditionComment comment = new AuditionComment();
+            comment.setId(index + 1);
+            comment.setPostId(index / commentsPerPost + 1);
+            comment.setName("id labore ex et quam laborum " + (index + 1));
+            comment.setEmail("user" + (index + 1) + "@example.com");
+            comment.setBody(TEXT);
+            return comment;
+        }).toList();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private HttpHandler withFaults(final HttpHandler handler) {
+        return exchange -> {
+            if (!latency.isZero()) {
+                try {
+                    Thread.sleep(latency);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while delaying the response");
+                }
+            }
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                try (exchange) {
+                    exchange.sendResponseHeaders(503, -1);
+                }
+                return;
+            }
+            handler.handle(exchange);
+        };
+    }
+
+    private void handlePosts(final HttpExchange exchange) throws IOException {
+        final String[] segments = exchange.getRequestURI().getPath().split("/");
+        final MultiValueMap<String, String> query = query(exchange);
+        if (segments.length == 2) {
+            respond(exchange, posts.stream()
+                .filter(post -> matches(query, "id", post.getId()) && matches(query, "userId", post.getUserId()))
+                .toList());
+        } else if (segments.length == 3) {
+            respond(exchange, posts.stream().filter(post -> segments[2].equals(String.valueOf(post.getId())))
+                .findFirst().orElse(null));
+        } else {
+            respond(exchange, comments.stream()
+                .filter(comment -> segments[2].equals(String.valueOf(comment.getPostId())))
+                .toList());
+        }
+    }
+
+    private void handleComments(final HttpExchange exchange) throws IOException {
+        final MultiValueMap<String, String> query = query(exchange);
+        respond(exchange, comments.stream()
+            .filter(comment -> matches(query, "id", comment.getId()) && matches(query, "postId", comment.getPostId()))
+            .toList());
+    }
+
+    private void respond(final HttpExchange exchange, final Object body) throws IOException {
+        try (exchange) {
+            if (body == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            final byte[] json = objectMapper.writeValueAsBytes(body);
+            exchange.getResponseHeaders().add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+            exchange.sendResponseHeaders(200, json.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(json);
+            }
+        }
+    }
+
+    private static MultiValueMap<String, String> query(final HttpExchange exchange) {
+        return UriComponentsBuilder.fromUri(exchange.getRequestURI()).build().getQueryParams();
+    }
+
+    private static boolean matches(final MultiValueMap<String, String> query, final String name, final int value) {
+        final List<String> values = query.get(name);
+        return values == null || values.contains(String.valueOf(value));
+    }
+
+    private String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+}
@@ -0,0 +1,56 @@
+package com.audition.integration;
+
+import com.audition.model.AuditionCommentFilterDto;
+import com.audition.model.AuditionPostFilterDto;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Cost of building each upstream URI with {@code UriComponentsBuilder}, paid on every cache miss and refresh.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UpstreamUrisBenchmark {
+
+    private static final String POST_URL = "https://jsonplaceholder.typicode.com/posts";
+    private static final String COMMENTS_URL = "https://jsonplaceholder.typicode.com/comments";
+
+    private final AuditionPostFilterDto postFilter = new AuditionPostFilterDto("1", null, "qui est esse");
+    private final AuditionCommentFilterDto commentFilter =
+        new AuditionCommentFilterDto("1", null, null, "Eliseo@gardner.biz");
+    private final List<String> ids = IntStream.rangeClosed(1, 25).mapToObj(String::valueOf).toList();
+
+    @Benchmark
+    public URI post() {
+        return UpstreamUris.post(POST_URL, "42");
+    }
+
+    @Benchmark
+    public URI postComments() {
+        return UpstreamUris.postComments(POST_URL, "42");
+    }
+
+    @Benchmark
+    public URI postsWithFilter() {
+        return UpstreamUris.posts(POST_URL, postFilter);
+    }
+
+    @Benchmark
+    public URI commentsWithFilter() {
+        return UpstreamUris.comments(COMMENTS_URL, commentFilter);
+    }
+
+    @Benchmark
+    public URI postsByIds() {
+        return UpstreamUris.postsByIds(POST_URL, ids);
+    }
+}
@@ -0,0 +1,95 @@
+package com.audition.service;
+
+import com.audition.model.AuditionComment;
+import com.audition.model.AuditionPost;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Heap retained by the local dataset, per post or comment, reported as the {@code bytesPerEntity} secondary result.
+ * The size is the object graph reachable from what the application keeps, measured with JOL, so it does not depend on
+ * when the collector runs. The time score only covers building and walking the graph and is not meaningful.
+ *
+ * <ul>
+ *     <li>{@code columns}: {@link AuditionDataset} with bodies on the heap, loaded through the uncached client path</li>
+ *     <li>{@code offHeapColumns}: the same with bodies in direct memory, which is not counted</li>
+ *     <li>{@code columnsAndCachedModels}: the dataset plus the model lists a cached load would also keep in the
+ *     {@code posts} and {@code comments} caches and the last known good store, one shared instance for all three</li>
+ *     <li>{@code models}: the model lists alone, for reference</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AuditionDatasetFootprintBenchmark {
+
+    private static final int POSTS = 100_000;
+    private static final int COMMENTS = 500_000;
+
+    @Param({"columns", "offHeapColumns", "columnsAndCachedModels", "models"})
+    String retained;
+
+    @Benchmark
+    public Object retain(final Footprint footprint) {
+        // fresh instances per run, shaped like the upstream: few users and email domains, short titles, long bodies
+        final List<AuditionPost> posts = IntStream.rangeClosed(1, POSTS)
+            .mapToObj(AuditionDatasetFootprintBenchmark::post).toList();
+        final List<AuditionComment> comments = IntStream.rangeClosed(1, COMMENTS)
+            .mapToObj(AuditionDatasetFootprintBenchmark::comment).toList();
+        final Object root = switch (retained) {
+            case "columns" -> AuditionDataset.of(posts, comments, false);
+            case "offHeapColumns" -> AuditionDataset.of(posts, comments, true);
+            case "columnsAndCachedModels" -> List.of(AuditionDataset.of(posts, comments, false), posts, comments);
+            case "models" -> List.of(posts, comments);
+            default -> throw new IllegalArgumentException(retained);
+        };
+        footprint.bytesPerEntity = GraphLayout.parseInstance(root).totalSize() / (POSTS + COMMENTS);
+        return root;
+    }
+
+    /**
+     * Secondary result, reset before each run.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long bytesPerEntity;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytesPerEntity = 0;
+        }
+    }
+
+    private static AuditionPost post(final int id) {
+        final AuditionPost post = new AuditionPost();
+        post.setId(id);
+        post.setUserId(id % 10 + 1);
+        post.setTitle("title " + id % 1000);
+        post.setBody(("body of post " + id + " ").repeat(8));
+        return post;
+    }
+
+    private static AuditionComment comment(final int id) {
+        final AuditionComment comment = new AuditionComment();
+        comment.setId(id);
+        comment.setPostId(id % POSTS + 1);
+        comment.setName("name " + id % 5000);
+        comment.setEmail("user" + id % 5000 + "@example.com");
+        comment.setBody(("body of comment " + id + " ").repeat(6));
+        return comment;
+    }
+}
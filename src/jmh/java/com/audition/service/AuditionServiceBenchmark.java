@@ -0,0 +1,95 @@
+package com.audition.service;
+
+import com.audition.AuditionApplication;
+import com.audition.integration.StubUpstream;
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostComments;
+import com.audition.model.AuditionPostFilterDto;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * The request path below the controllers: {@link AuditionService}, the integration client with its caches,
+ * resilience decorators and {@code RestTemplate}, and JSON decoding of the upstream responses.
+ *
+ * <p>
+ * The application context is started without a web server against a {@link StubUpstream}. With
+ * {@code cachesEnabled=false} every call goes through HTTP to the stub, which measures the integration client; with
+ * {@code true} nearly every call is a cache hit, which measures the service layer.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AuditionServiceBenchmark {
+
+    private static final int POSTS = 100;
+    private static final int COMMENTS_PER_POST = 5;
+    private static final AuditionPostFilterDto ALL_POSTS = new AuditionPostFilterDto(null, null, null);
+    private static final AuditionPostFilterDto ONE_USER = new AuditionPostFilterDto("1", null, null);
+
+    @Param({"true", "false"})
+    boolean cachesEnabled;
+
+    private StubUpstream upstream;
+    private ConfigurableApplicationContext context;
+    private AuditionService auditionService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        upstream = StubUpstream.start(POSTS, COMMENTS_PER_POST);
+        // command line arguments, so that they take precedence over application.yml
+        context = new SpringApplicationBuilder(AuditionApplication.class)
+            .web(WebApplicationType.NONE)
+            .run("--postClient.baseUrl=" + upstream.postsUrl(),
+                "--commentClient.baseUrl=" + upstream.commentsUrl(),
+                "--caches.enabled=" + cachesEnabled,
+                "--spring.cloud.config.enabled=false");
+        auditionService = context.getBean(AuditionService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        upstream.close();
+    }
+
+    @Benchmark
+    public List<AuditionPost> getPosts() {
+        return auditionService.getPosts(ALL_POSTS);
+    }
+
+    @Benchmark
+    public AuditionPost getPostById() {
+        return auditionService.getPostById(randomPostId());
+    }
+
+    @Benchmark
+    public AuditionPostComments getPostComments() {
+        return auditionService.getPostComments(randomPostId());
+    }
+
+    @Benchmark
+    public List<AuditionPostComments> getPostsWithComments() {
+        return auditionService.getPostsWithComments(ONE_USER);
+    }
+
+    private static String randomPostId() {
+        return String.valueOf(ThreadLocalRandom.current().nextInt(1, POSTS + 1));
+    }
+}
@@ -0,0 +1,72 @@
+package com.audition.web;
+
+import com.audition.configuration.WebServiceConfiguration;
+import com.audition.integration.StubUpstream;
+import com.audition.model.AuditionComment;
+import com.audition.model.AuditionPost;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Jackson encoding and decoding of post and comment lists with the application's {@code ObjectMapper}, including
+ * the field projection filter it installs. Sizes default to the upstream's: 100 posts with 5 comments each.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JsonSerializationBenchmark {
+
+    private static final TypeReference<List<AuditionPost>> POST_LIST = new TypeReference<>() {
+    };
+    private static final TypeReference<List<AuditionComment>> COMMENT_LIST = new TypeReference<>() {
+    };
+
+    @Param({"100", "1000"})
+    int posts;
+
+    private ObjectMapper objectMapper;
+    private List<AuditionPost> postList;
+    private List<AuditionComment> commentList;
+    private byte[] postJson;
+    private byte[] commentJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new WebServiceConfiguration().objectMapper();
+        postList = StubUpstream.posts(posts);
+        commentList = StubUpstream.comments(posts, 5);
+        postJson = objectMapper.writeValueAsBytes(postList);
+        commentJson = objectMapper.writeValueAsBytes(commentList);
+    }
+
+    @Benchmark
+    public byte[] writePosts() throws IOException {
+        return objectMapper.writeValueAsBytes(postList);
+    }
+
+    @Benchmark
+    public byte[] writeComments() throws IOException {
+        return objectMapper.writeValueAsBytes(commentList);
+    }
+
+    @Benchmark
+    public List<AuditionPost> readPosts() throws IOException {
+        return objectMapper.readValue(postJson, POST_LIST);
+    }
+
+    @Benchmark
+    public List<AuditionComment> readComments() throws IOException {
+        return objectMapper.readValue(commentJson, COMMENT_LIST);
+    }
+}
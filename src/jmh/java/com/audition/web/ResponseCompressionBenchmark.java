@@ -0,0 +1,67 @@
+package com.audition.web;
+
+import com.audition.configuration.WebServiceConfiguration;
+import com.audition.integration.StubUpstream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Cost of gzipping a {@code GET /comments} body, as Tomcat does with the default deflate level, and the resulting size
+ * reported as the {@code identityBytes} and {@code gzipBytes} secondary results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseCompressionBenchmark {
+
+    @Param({"100", "1000"})
+    int posts;
+
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        json = new WebServiceConfiguration().objectMapper().writeValueAsBytes(StubUpstream.comments(posts, 5));
+    }
+
+    @Benchmark
+    public byte[] gzip(final Sizes sizes) throws IOException {
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(json);
+        }
+        final byte[] body = compressed.toByteArray();
+        sizes.identityBytes = json.length;
+        sizes.gzipBytes = body.length;
+        return body;
+    }
+
+    /**
+     * Secondary results, reset before each iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Sizes {
+
+        public long identityBytes;
+        public long gzipBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            identityBytes = 0;
+            gzipBytes = 0;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.audition.loadtest;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latencies and outcomes of the requests sent to one endpoint, recorded from the client callback threads.
+ */
+final class EndpointStats {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final String name;
+    private final Histogram latency = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    private final LongAdder clientErrors = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    EndpointStats(final String name) {
+        this.name = name;
+    }
+
+    String name() {
+        return name;
+    }
+
+    /**
+     * Records a completed request.
+     *
+     * @param nanos  time from the scheduled send to the response, or to the failure
+     * @param status the response status, or {@code -1} if no response was received
+     */
+    void record(final long nanos, final int status) {
+        latency.recordValue(nanos);
+        if (status < 0) {
+            failures.increment();
+        } else if (status >= 500) {
+            serverErrors.increment();
+        } else if (status >= 400) {
+            clientErrors.increment();
+        }
+    }
+
+    /**
+     * Records a request that was not sent because too many were in flight. It counts as an error: leaving it out would
+     * hide the overload the same way a closed-loop client that stops sending does.
+     */
+    void drop() {
+        dropped.increment();
+    }
+
+    Result result(final Duration elapsed) {
+        final long completed = latency.getTotalCount();
+        final long sent = completed + dropped.sum();
+        final long errors = clientErrors.sum() + serverErrors.sum() + failures.sum() + dropped.sum();
+        return new Result(name, sent, completed * 1000.0 / elapsed.toMillis(), sent == 0 ? 0 : (double) errors / sent,
+            sent == 0 ? 0 : (double) dropped.sum() / sent, clientErrors.sum(), serverErrors.sum(), failures.sum(),
+            dropped.sum(), millis(latency.getValueAtPercentile(50)), millis(latency.getValueAtPercentile(95)),
+            millis(latency.getValueAtPercentile(99)), millis(latency.getValueAtPercentile(99.9)),
+            millis(latency.getMaxValue()));
+    }
+
+    /**
+     * Writes the full latency distribution in milliseconds, in the format read by the HdrHistogram plotter.
+     */
+    void writeDistribution(final PrintStream out) {
+        latency.outputPercentileDistribution(out, NANOS_PER_MILLI);
+    }
+
+    private static double millis(final long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Summary of one endpoint, latencies in milliseconds. {@code requests} and {@code errorRate} include dropped
+     * sends; {@code throughput} and the latencies cover the completed requests only.
+     */
+    record Result(String endpoint, long requests, double throughput, double errorRate, double dropRate,
+                  long clientErrors,
+                  long serverErrors, long failures, long dropped, double p50, double p95, double p99, double p999,
+                  double max) {
+
+    }
+}
@@ -0,0 +1,200 @@
+package com.audition.loadtest;
+
+import com.audition.AuditionApplication;
+import com.audition.integration.StubUpstream;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+/**
+ * Drives the four {@code AuditionController} read endpoints at a fixed request rate and reports latency percentiles,
+ * throughput and error rates for each. The application runs in-process on a random port, against a
+ * {@link StubUpstream} with the configured latency and error rate. Run with {@code ./gradlew loadTest}, see
+ * {@code docs/load-testing.md}.
+ *
+ * <p>
+ * The load is open-loop: requests are sent on schedule whether or not earlier ones have completed, and latency is
+ * measured from the scheduled send time. A stalled server therefore shows up in the percentiles instead of silently
+ * lowering the request rate. Sends dropped because {@code maxInFlight} requests were outstanding count as errors, and
+ * the run fails when they exceed {@code maxDropRate} of all sends, since the percentiles then no longer describe the
+ * offered load.
+ * </p>
+ */
+public final class LoadTest {
+
+    private static final int POSTS = 100;
+    private static final int COMMENTS_PER_POST = 5;
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestSettings settings;
+    private final URI baseUri;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient client;
+
+    private LoadTest(final LoadTestSettings settings, final URI baseUri) {
+        this.settings = settings;
+        this.baseUri = baseUri;
+        this.client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(executor).build();
+    }
+
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        final EndpointStats.Result total;
+        try (StubUpstream upstream = StubUpstream.start(POSTS, COMMENTS_PER_POST, settings.upstreamLatency(),
+            settings.upstreamErrorRate());
+            ConfigurableApplicationContext context = startApplication(upstream, settings)) {
+            final int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            final LoadTest loadTest = new LoadTest(settings, URI.create("http://localhost:" + port));
+            System.out.printf("Warming up for %s at %d req/s%n", settings.warmUp(), settings.rps());
+            loadTest.run(settings.warmUp());
+            System.out.printf("Measuring for %s at %d req/s%n", settings.duration(), settings.rps());
+            total = report(settings, loadTest.run(settings.duration()), settings.duration());
+            loadTest.executor.shutdownNow();
+        }
+        if (total.dropRate() > settings.maxDropRate()) {
+            throw new IllegalStateException(String.format(Locale.ROOT,
+                "%d sends (%.2f%%) were dropped, more than loadTest.maxDropRate=%s; lower loadTest.rps or raise "
+                    + "loadTest.maxInFlight", total.dropped(), total.dropRate() * 100, settings.maxDropRate()));
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(final StubUpstream upstream,
+        final LoadTestSettings settings) {
+        final List<String> args = new ArrayList<>(List.of(
+            "--server.port=0",
+            "--postClient.baseUrl=" + upstream.postsUrl(),
+            "--commentClient.baseUrl=" + upstream.commentsUrl(),
+            "--spring.cloud.config.enabled=false"));
+        args.addAll(settings.applicationArgs());
+        return new SpringApplicationBuilder(AuditionApplication.class).run(args.toArray(String[]::new));
+    }
+
+    /**
+     * Sends requests at {@code rps} for the given duration, cycling through the endpoints, and waits for the
+     * responses. The last stats returned cover all endpoints together.
+     */
+    private List<EndpointStats> run(final Duration duration) throws InterruptedException {
+        final List<EndpointStats> stats = Arrays.stream(Endpoint.values())
+            .map(endpoint -> new EndpointStats(endpoint.description)).toList();
+        final EndpointStats total = new EndpointStats("total");
+        final Semaphore inFlight = new Semaphore(settings.maxInFlight());
+        final long interval = TimeUnit.SECONDS.toNanos(1) / settings.rps();
+        final long start = System.nanoTime();
+        final long end = start + duration.toNanos();
+        for (long sent = 0; start + sent * interval < end; sent++) {
+            final long scheduled = start + sent * interval;
+            final long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            final int index = (int) (sent % stats.size());
+            final EndpointStats endpoint = stats.get(index);
+            if (!inFlight.tryAcquire()) {
+                endpoint.drop();
+                total.drop();
+                continue;
+            }
+            client.sendAsync(request(Endpoint.values()[index]), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    final long latency = System.nanoTime() - scheduled;
+                    final int status = response == null ? -1 : response.statusCode();
+                    endpoint.record(latency, status);
+                    total.record(latency, status);
+                    inFlight.release();
+                });
+        }
+        if (!inFlight.tryAcquire(settings.maxInFlight(), DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            System.out.printf("Requests still in flight after %s are not counted%n", DRAIN_TIMEOUT);
+        }
+        final List<EndpointStats> all = new ArrayList<>(stats);
+        all.add(total);
+        return all;
+    }
+
+    private HttpRequest request(final Endpoint endpoint) {
+        final int postId = ThreadLocalRandom.current().nextInt(1, POSTS + 1);
+        return HttpRequest.newBuilder(baseUri.resolve(endpoint.path.apply(postId)))
+            .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+            .timeout(settings.requestTimeout())
+            .GET()
+            .build();
+    }
+
+    /**
+     * Prints and writes the results, and returns the one covering all endpoints together.
+     */
+    private static EndpointStats.Result report(final LoadTestSettings settings, final List<EndpointStats> stats,
+        final Duration elapsed) throws IOException {
+        final List<EndpointStats.Result> results = stats.stream().map(endpoint -> endpoint.result(elapsed)).toList();
+        System.out.printf("%-26s %9s %9s %8s %8s %9s %9s %9s %9s %9s%n", "endpoint", "requests", "req/s", "errors",
+            "dropped", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (final EndpointStats.Result result : results) {
+            System.out.printf(Locale.ROOT, "%-26s %9d %9.1f %7.2f%% %7.2f%% %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                result.endpoint(), result.requests(), result.throughput(), result.errorRate() * 100,
+                result.dropRate() * 100, result.p50(), result.p95(), result.p99(), result.p999(), result.max());
+        }
+        Files.createDirectories(settings.reportDir());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+            .writeValue(settings.reportDir().resolve("results.json").toFile(), new Report(settings, results));
+        for (final EndpointStats endpoint : stats) {
+            final String fileName = endpoint.name().replaceAll("[^A-Za-z0-9]+", "-").replaceAll("^-|-$", "");
+            try (PrintStream out = new PrintStream(settings.reportDir().resolve(fileName + ".hgrm").toFile(),
+                StandardCharsets.UTF_8)) {
+                endpoint.writeDistribution(out);
+            }
+        }
+        System.out.printf("Results written to %s%n", settings.reportDir().toAbsolutePath());
+        return results.get(results.size() - 1);
+    }
+
+    private enum Endpoint {
+        POSTS("GET /posts", postId -> "/posts"),
+        POST_BY_ID("GET /posts/{id}", postId -> "/posts/" + postId),
+        POST_COMMENTS("GET /posts/{id}/comments", postId -> "/posts/" + postId + "/comments"),
+        COMMENTS("GET /comments", postId -> "/comments");
+
+        private final String description;
+        private final IntFunction<String> path;
+
+        Endpoint(final String description, final IntFunction<String> path) {
+            this.description = description;
+            this.path = path;
+        }
+    }
+
+    /**
+     * Content of {@code results.json}: the settings the run used and the result of each endpoint.
+     */
+    private record Report(int rps, String duration, String upstreamLatency, double upstreamErrorRate,
+                          int maxInFlight, List<String> applicationArgs, List<EndpointStats.Result> endpoints) {
+
+        Report(final LoadTestSettings settings, final List<EndpointStats.Result> endpoints) {
+            this(settings.rps(), settings.duration().toString(), settings.upstreamLatency().toString(),
+                settings.upstreamErrorRate(), settings.maxInFlight(), settings.applicationArgs(), endpoints);
+        }
+    }
+}
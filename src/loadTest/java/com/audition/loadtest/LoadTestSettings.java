@@ -0,0 +1,47 @@
+package com.audition.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Load test settings, read from {@code loadTest.*} system properties. Durations use the same format as
+ * {@code application.yml}, for example {@code 30s} or {@code 250ms}.
+ *
+ * @param rps               requests per second sent to the application, spread evenly over the endpoints
+ * @param duration          how long the measured phase runs
+ * @param warmUp            how long the load runs before measuring, for JIT compilation and cache warm-up
+ * @param upstreamLatency   delay added by the stub upstream to every response
+ * @param upstreamErrorRate share of upstream requests, from 0 to 1, answered with {@code 503}
+ * @param maxInFlight       requests in flight above which further sends are counted as dropped
+ * @param maxDropRate       share of dropped sends, from 0 to 1, above which the run fails
+ * @param requestTimeout    how long a request may take before it counts as failed
+ * @param reportDir         where the results are written
+ * @param applicationArgs   extra command line arguments for the application, such as {@code --caches.enabled=false}
+ */
+record LoadTestSettings(int rps, Duration duration, Duration warmUp, Duration upstreamLatency,
+                        double upstreamErrorRate, int maxInFlight, double maxDropRate, Duration requestTimeout, Path reportDir,
+                        List<String> applicationArgs) {
+
+    private static final String PREFIX = "loadTest.";
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+            Integer.parseInt(property("rps", "200")),
+            DurationStyle.detectAndParse(property("duration", "60s")),
+            DurationStyle.detectAndParse(property("warmUp", "15s")),
+            DurationStyle.detectAndParse(property("upstreamLatency", "50ms")),
+            Double.parseDouble(property("upstreamErrorRate", "0")),
+            Integer.parseInt(property("maxInFlight", "10000")),
+            Double.parseDouble(property("maxDropRate", "0.001")),
+            DurationStyle.detectAndParse(property("requestTimeout", "10s")),
+            Path.of(property("reportDir", "build/reports/load-test")),
+            Arrays.stream(property("args", "").split("\\s+")).filter(arg -> !arg.isBlank()).toList());
+    }
+
+    private static String property(final String name, final String defaultValue) {
+        return System.getProperty(PREFIX + name, defaultValue);
+    }
+}
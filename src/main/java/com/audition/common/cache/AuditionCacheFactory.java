@@ -0,0 +1,240 @@
+package com.audition.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Builds size-bounded Caffeine loading caches from {@link AuditionCacheProperties} and registers their
+ * hit/miss/eviction statistics with Micrometer under {@code cache.*}, tagged with the cache name.
+ *
+ * <p>
+ * When a {@link SharedCache} is given, each cache becomes the first tier in front of it: misses and refreshes look in
+ * the shared tier before calling the loader, and a refresh that changes a value evicts it from the other nodes through
+ * the {@link CacheInvalidationBus}. Only caches built with a value type take part, since the shared tier stores
+ * values as JSON and has to know what to read them back as.
+ * </p>
+ *
+ * <p>
+ * While caching is enabled, loaded values are added to {@link CachedValues}.
+ * </p>
+ */
+public class AuditionCacheFactory {
+
+    private final AuditionCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Executor refreshExecutor;
+    private final SharedCache sharedCache;
+    private final CacheInvalidationBus invalidationBus;
+    private final ObjectMapper objectMapper;
+    private final Ticker ticker;
+    private final String origin = UUID.randomUUID().toString();
+    private final Map<String, Cache<?, ?>> caches = new ConcurrentHashMap<>();
+
+    public AuditionCacheFactory(final AuditionCacheProperties properties, final MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a factory whose caches reload entries past their soft TTL on {@code refreshExecutor}. The stale entry
+     * keeps being served until the reload completes, and a failed reload keeps it, so callers never wait on a
+     * refresh.
+     *
+     * @param properties      cache sizes and TTLs
+     * @param meterRegistry   registry for cache statistics
+     * @param refreshExecutor runs background reloads, which block on the upstream
+     */
+    public AuditionCacheFactory(final AuditionCacheProperties properties, final MeterRegistry meterRegistry,
+        final Executor refreshExecutor) {
+        this(properties, meterRegistry, refreshExecutor, null, null, null);
+    }
+
+    /**
+     * Creates a factory whose caches are backed by a shared second tier.
+     *
+     * @param properties      cache sizes and TTLs
+     * @param meterRegistry   registry for cache statistics
+     * @param refreshExecutor runs background reloads, which block on the upstream
+     * @param sharedCache     the shared tier, or {@code null} for node-local caches only
+     * @param invalidationBus carries invalidations between nodes, or {@code null} to rely on the shared tier's TTL
+     * @param objectMapper    encodes and decodes the values stored in the shared tier
+     */
+    public AuditionCacheFactory(final AuditionCacheProperties properties, final MeterRegistry meterRegistry,
+        final Executor refreshExecutor, final SharedCache sharedCache, final CacheInvalidationBus invalidationBus,
+        final ObjectMapper objectMapper) {
+        this(properties, meterRegistry, refreshExecutor, sharedCache, invalidationBus, objectMapper,
+            Ticker.systemTicker());
+    }
+
+    /**
+     * Creates a factory whose caches read the time from {@code ticker}, so that tests can expire and refresh entries
+     * without waiting.
+     */
+    AuditionCacheFactory(final AuditionCacheProperties properties, final MeterRegistry meterRegistry,
+        final Executor refreshExecutor, final SharedCache sharedCache, final CacheInvalidationBus invalidationBus,
+        final ObjectMapper objectMapper, final Ticker ticker) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.refreshExecutor = refreshExecutor;
+        this.sharedCache = sharedCache;
+        this.invalidationBus = invalidationBus;
+        this.objectMapper = objectMapper;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Returns the key under which an entry is stored in the shared tier and named in invalidations.
+     *
+     * @param key the node cache key
+     * @return its string form
+     */
+    public static String sharedKey(final Object key) {
+        return String.valueOf(key);
+    }
+
+    /**
+     * Creates a node-local loading cache for the given name.
+     *
+     * <p>
+     * When caching is disabled the returned cache holds no entries, so every lookup is delegated to the loader.
+     * </p>
+     *
+     * @param cacheName the name used for configuration lookup and metric tags
+     * @param loader    loads a value on a miss and reloads it once the soft TTL has passed
+     * @return a new loading cache
+     */
+    public <K, V> LoadingCache<K, V> build(final String cacheName, final CacheLoader<K, V> loader) {
+        return build(cacheName, null, loader);
+    }
+
+    /**
+     * Creates a loading cache for the given name, backed by the shared tier when there is one.
+     *
+     * @param cacheName the name used for configuration lookup and metric tags
+     * @param valueType the type of the cached values, which shared values are decoded as
+     * @param loader    loads a value on a miss and reloads it once the soft TTL has passed
+     * @return a new loading cache
+     */
+    public <K, V> LoadingCache<K, V> build(final String cacheName, final Type valueType,
+        final CacheLoader<K, V> loader) {
+        final SharedTier tier = sharedTier(cacheName, valueType);
+        final CacheLoader<K, V> tiered = tier == null ? loader : new TieredCacheLoader<>(tier, loader);
+        final LoadingCache<K, V> cache = builder(cacheName, tier)
+            .build(properties.isEnabled() ? new CachedValueLoader<>(tiered) : tiered);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, cacheName);
+        subscribe(cacheName, tier, cache.asMap());
+        caches.put(cacheName, cache);
+        return cache;
+    }
+
+    /**
+     * Creates a node-local asynchronous loading cache for the given name, for loaders that return a future instead of
+     * blocking.
+     *
+     * @param cacheName the name used for configuration lookup and metric tags
+     * @param loader    loads a value on a miss and reloads it once the soft TTL has passed
+     * @return a new asynchronous loading cache
+     */
+    public <K, V> AsyncLoadingCache<K, V> buildAsync(final String cacheName, final AsyncCacheLoader<K, V> loader) {
+        return buildAsync(cacheName, null, loader);
+    }
+
+    /**
+     * Creates an asynchronous loading cache for the given name, backed by the shared tier when there is one.
+     *
+     * @param cacheName the name used for configuration lookup and metric tags
+     * @param valueType the type of the cached values, which shared values are decoded as
+     * @param loader    loads a value on a miss and reloads it once the soft TTL has passed
+     * @return a new asynchronous loading cache
+     */
+    public <K, V> AsyncLoadingCache<K, V> buildAsync(final String cacheName, final Type valueType,
+        final AsyncCacheLoader<K, V> loader) {
+        final SharedTier tier = sharedTier(cacheName, valueType);
+        final AsyncCacheLoader<K, V> tiered = tier == null ? loader : new TieredAsyncCacheLoader<>(tier, loader);
+        final AsyncLoadingCache<K, V> cache = builder(cacheName, tier)
+            .buildAsync(properties.isEnabled() ? new CachedValueAsyncLoader<>(tiered) : tiered);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), cacheName);
+        subscribe(cacheName, tier, cache.synchronous().asMap());
+        caches.put(cacheName, cache.synchronous());
+        return cache;
+    }
+
+    /**
+     * Returns the keys of a cache built by this factory, from the most to the least likely to be used again as judged
+     * by its eviction policy.
+     *
+     * @param cacheName the cache name
+     * @param limit     the maximum number of keys
+     * @return the hottest keys, empty for an unknown cache
+     */
+    public List<Object> hottestKeys(final String cacheName, final int limit) {
+        final Cache<?, ?> cache = caches.get(cacheName);
+        return cache == null ? List.of() : hottest(cache, limit);
+    }
+
+    private static <K> List<Object> hottest(final Cache<K, ?> cache, final int limit) {
+        return cache.policy().eviction()
+            .<List<Object>>map(eviction -> new ArrayList<>(eviction.hottest(limit).keySet()))
+            .orElse(List.of());
+    }
+
+    private SharedTier sharedTier(final String cacheName, final Type valueType) {
+        if (sharedCache == null || valueType == null || !properties.isEnabled()) {
+            return null;
+        }
+        final AuditionCacheProperties.Spec spec = properties.specFor(cacheName);
+        // a shared value must not outlive the node refresh interval, or refreshes would keep reading it back
+        final Duration ttl = spec.getRefreshAfterWrite() != null ? spec.getRefreshAfterWrite()
+            : spec.getExpireAfterWrite();
+        return new SharedTier(origin, cacheName, ttl, sharedCache, invalidationBus, refreshExecutor, objectMapper,
+            objectMapper.getTypeFactory().constructType(valueType), meterRegistry);
+    }
+
+    private void subscribe(final String cacheName, final SharedTier tier, final Map<?, ?> entries) {
+        if (tier == null || invalidationBus == null) {
+            return;
+        }
+        invalidationBus.subscribe(invalidation -> {
+            if (!origin.equals(invalidation.origin()) && cacheName.equals(invalidation.cacheName())) {
+                final Object key = tier.removeKey(invalidation.key());
+                if (key != null) {
+                    entries.remove(key);
+                }
+            }
+        });
+    }
+
+    private Caffeine<Object, Object> builder(final String cacheName, final SharedTier tier) {
+        final Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats().ticker(ticker);
+        if (tier != null) {
+            builder.evictionListener((key, value, cause) -> tier.evicted(key));
+        }
+        if (properties.isEnabled()) {
+            final AuditionCacheProperties.Spec spec = properties.specFor(cacheName);
+            builder.maximumSize(spec.getMaximumSize()).expireAfterWrite(spec.getExpireAfterWrite())
+                .executor(refreshExecutor);
+            if (spec.getRefreshAfterWrite() != null) {
+                builder.refreshAfterWrite(spec.getRefreshAfterWrite());
+            }
+        } else {
+            builder.maximumSize(0).executor(Runnable::run);
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,59 @@
+package com.audition.common.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the in-memory upstream caches, bound from {@code caches.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "caches")
+public class AuditionCacheProperties {
+
+    /**
+     * When disabled every read goes to the upstream API.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Shared second tier behind the node caches: {@code none}, or {@code in-memory} for the single-process stand-in.
+     */
+    private String sharedTier = "none";
+
+    /**
+     * Spec applied to caches without an entry in {@link #specs}.
+     */
+    private Spec defaults = new Spec();
+
+    /**
+     * Per-cache overrides keyed by cache name.
+     */
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    public Spec specFor(final String cacheName) {
+        return specs.getOrDefault(cacheName, defaults);
+    }
+
+    @Data
+    public static class Spec {
+
+        /**
+         * Maximum number of entries; beyond this Caffeine evicts using W-TinyLFU.
+         */
+        private long maximumSize = 1000;
+
+        /**
+         * Hard TTL after which an entry is no longer served.
+         */
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+        /**
+         * Soft TTL after which the next read triggers an asynchronous reload while the current value is still served.
+         * Disabled when not set.
+         */
+        private Duration refreshAfterWrite;
+    }
+}
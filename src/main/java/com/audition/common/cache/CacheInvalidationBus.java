@@ -0,0 +1,35 @@
+package com.audition.common.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts cache invalidations between replicas, so that a node drops its copy of an entry that another node has
+ * refreshed with a different value and picks up the new value from the {@link SharedCache}.
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * Sends an invalidation to every subscribed node, possibly including the sender.
+     *
+     * @param invalidation the entry to invalidate
+     */
+    void publish(CacheInvalidation invalidation);
+
+    /**
+     * Registers a listener for invalidations.
+     *
+     * @param listener called for every invalidation received
+     */
+    void subscribe(Consumer<CacheInvalidation> listener);
+
+    /**
+     * An entry refreshed on the node {@code origin}.
+     *
+     * @param origin    the id of the publishing node, so that it can ignore its own messages
+     * @param cacheName the node cache the entry belongs to
+     * @param key       the entry key, see {@link AuditionCacheFactory#sharedKey}
+     */
+    record CacheInvalidation(String origin, String cacheName, String key) {
+
+    }
+}
@@ -0,0 +1,39 @@
+package com.audition.common.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Asynchronous variant of {@link CachedValueLoader}.
+ */
+final class CachedValueAsyncLoader<K, V> implements AsyncCacheLoader<K, V> {
+
+    private final AsyncCacheLoader<K, V> delegate;
+
+    CachedValueAsyncLoader(final AsyncCacheLoader<K, V> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public CompletableFuture<? extends V> asyncLoad(final K key, final Executor executor) throws Exception {
+        return delegate.asyncLoad(key, executor).thenApply(CachedValues::add);
+    }
+
+    @Override
+    public CompletableFuture<? extends Map<? extends K, ? extends V>> asyncLoadAll(final Set<? extends K> keys,
+        final Executor executor) throws Exception {
+        return TieredAsyncCacheLoader.loadAll(delegate, keys, executor).thenApply(values -> {
+            values.values().forEach(CachedValues::add);
+            return values;
+        });
+    }
+
+    @Override
+    public CompletableFuture<? extends V> asyncReload(final K key, final V oldValue, final Executor executor)
+        throws Exception {
+        return delegate.asyncReload(key, oldValue, executor).thenApply(CachedValues::add);
+    }
+}
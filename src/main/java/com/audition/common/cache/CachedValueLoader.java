@@ -0,0 +1,34 @@
+package com.audition.common.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Adds every value a loader returns to {@link CachedValues}.
+ */
+final class CachedValueLoader<K, V> implements CacheLoader<K, V> {
+
+    private final CacheLoader<K, V> delegate;
+
+    CachedValueLoader(final CacheLoader<K, V> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public V load(final K key) throws Exception {
+        return CachedValues.add(delegate.load(key));
+    }
+
+    @Override
+    public Map<? extends K, ? extends V> loadAll(final Set<? extends K> keys) throws Exception {
+        final Map<? extends K, ? extends V> values = TieredCacheLoader.loadAll(delegate, keys);
+        values.values().forEach(CachedValues::add);
+        return values;
+    }
+
+    @Override
+    public V reload(final K key, final V oldValue) throws Exception {
+        return CachedValues.add(delegate.reload(key, oldValue));
+    }
+}
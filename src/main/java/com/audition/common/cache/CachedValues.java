@@ -0,0 +1,45 @@
+package com.audition.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Identity set of the values loaded into the caches built by {@link AuditionCacheFactory}, so that code keyed on value
+ * identity, such as the serialized response cache, can tell an instance shared by many requests from one built for a
+ * single request.
+ *
+ * <p>
+ * Values are added by the cache loaders and held weakly, so a value leaves the set once its cache has evicted or
+ * replaced it and no request still references it.
+ * </p>
+ */
+public final class CachedValues {
+
+    private static final Cache<Object, Boolean> VALUES = Caffeine.newBuilder().weakKeys().build();
+
+    private CachedValues() {
+    }
+
+    /**
+     * Adds a value that is about to be stored in a data cache.
+     *
+     * @param value the loaded value, may be {@code null}
+     * @return the same value
+     */
+    public static <V> V add(final V value) {
+        if (value != null) {
+            VALUES.put(value, Boolean.TRUE);
+        }
+        return value;
+    }
+
+    /**
+     * Tells whether this very instance was loaded into a data cache.
+     *
+     * @param value any object
+     * @return {@code true} for a cached instance, {@code false} for an equal copy or anything else
+     */
+    public static boolean contains(final Object value) {
+        return value != null && VALUES.getIfPresent(value) != null;
+    }
+}
@@ -0,0 +1,61 @@
+package com.audition.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Single-process stand-in for the shared tier and the invalidation bus, selected with
+ * {@code caches.sharedTier=in-memory}. Several {@link AuditionCacheFactory} instances sharing one instance behave like
+ * replicas sharing a real store, which is how the tiering is tested and tried out locally. It keeps the encoded values
+ * as a real store would, so every hit decodes a fresh copy.
+ */
+public class InMemorySharedCache implements SharedCache, CacheInvalidationBus {
+
+    private final Cache<String, Timed> entries;
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    public InMemorySharedCache(final long maximumSize) {
+        this(maximumSize, Ticker.systemTicker());
+    }
+
+    InMemorySharedCache(final long maximumSize, final Ticker ticker) {
+        this.entries = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .ticker(ticker)
+            .expireAfter(Expiry.<String, Timed>writing((key, timed) -> timed.ttl()))
+            .build();
+    }
+
+    @Override
+    public byte[] get(final String cacheName, final String key) {
+        final Timed timed = entries.getIfPresent(cacheName + ':' + key);
+        return timed == null ? null : timed.value();
+    }
+
+    @Override
+    public void put(final String cacheName, final String key, final byte[] value, final Duration ttl) {
+        entries.put(cacheName + ':' + key, new Timed(value, ttl));
+    }
+
+    @Override
+    public void publish(final CacheInvalidation invalidation) {
+        for (final Consumer<CacheInvalidation> listener : listeners) {
+            listener.accept(invalidation);
+        }
+    }
+
+    @Override
+    public void subscribe(final Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    private record Timed(byte[] value, Duration ttl) {
+
+    }
+}
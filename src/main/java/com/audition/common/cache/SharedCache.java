@@ -0,0 +1,36 @@
+package com.audition.common.cache;
+
+import java.time.Duration;
+
+/**
+ * Second cache tier shared by every replica, behind the per-node Caffeine caches built by
+ * {@link AuditionCacheFactory}.
+ *
+ * <p>
+ * A node that misses its own cache looks here before calling the upstream, and stores what it fetched here for the
+ * others, so the upstream sees roughly one load per entry and refresh interval however many replicas run. Values are
+ * the node cache values encoded as JSON, which the store keeps as opaque bytes. Implementations must be thread-safe;
+ * failures are treated as misses by the caller.
+ * </p>
+ */
+public interface SharedCache {
+
+    /**
+     * Looks up a value.
+     *
+     * @param cacheName the node cache the value belongs to
+     * @param key       the entry key, see {@link AuditionCacheFactory#sharedKey}
+     * @return the encoded value, or {@code null} if absent or expired
+     */
+    byte[] get(String cacheName, String key);
+
+    /**
+     * Stores a value for the other nodes.
+     *
+     * @param cacheName the node cache the value belongs to
+     * @param key       the entry key, see {@link AuditionCacheFactory#sharedKey}
+     * @param value     the encoded value
+     * @param ttl       how long the value may be served to other nodes
+     */
+    void put(String cacheName, String key, byte[] value, Duration ttl);
+}
@@ -0,0 +1,151 @@
+package com.audition.common.cache;
+
+import com.audition.common.cache.CacheInvalidationBus.CacheInvalidation;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The shared tier as seen by one node cache. Failures of the shared store or the bus are logged and treated as misses,
+ * so an unavailable shared tier degrades to node-local caching.
+ *
+ * <p>
+ * Values are stored as JSON written by the application {@link ObjectMapper} and read back as the cache's value type,
+ * so any node can decode what another one stored. Decoded lists are made read-only, like the loaded ones.
+ * </p>
+ *
+ * <p>
+ * Stores and invalidation broadcasts are sent on the cache's executor, so that a blocking load does not also wait for
+ * them. The tier also indexes the node cache keys by shared key, so that an invalidation removes its entry directly.
+ * </p>
+ */
+final class SharedTier {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedTier.class);
+
+    private final String origin;
+    private final String cacheName;
+    private final Duration ttl;
+    private final SharedCache sharedCache;
+    private final CacheInvalidationBus invalidationBus;
+    private final Executor executor;
+    private final ObjectMapper objectMapper;
+    private final JavaType valueType;
+    private final Map<String, Object> keys = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    SharedTier(final String origin, final String cacheName, final Duration ttl, final SharedCache sharedCache,
+        final CacheInvalidationBus invalidationBus, final Executor executor, final ObjectMapper objectMapper,
+        final JavaType valueType, final MeterRegistry meterRegistry) {
+        this.origin = origin;
+        this.cacheName = cacheName;
+        this.ttl = ttl;
+        this.sharedCache = sharedCache;
+        this.invalidationBus = invalidationBus;
+        this.executor = executor;
+        this.objectMapper = objectMapper;
+        this.valueType = valueType;
+        this.hits = counter(meterRegistry, cacheName, "hit");
+        this.misses = counter(meterRegistry, cacheName, "miss");
+    }
+
+    @SuppressWarnings("unchecked")
+    <V> V get(final Object key) {
+        final String sharedKey = AuditionCacheFactory.sharedKey(key);
+        Object value = null;
+        try {
+            value = decode(sharedCache.get(cacheName, sharedKey));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Shared cache lookup failed for {} key {}: {}", cacheName, key, e.getMessage());
+        }
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+            keys.put(sharedKey, key);
+        }
+        return (V) value;
+    }
+
+    <V> V share(final Object key, final V value) {
+        return share(key, value, false);
+    }
+
+    /**
+     * Stores a loaded value and, when {@code changed}, then tells the other nodes to drop their copy of it.
+     */
+    <V> V share(final Object key, final V value, final boolean changed) {
+        if (value == null) {
+            return null;
+        }
+        final String sharedKey = AuditionCacheFactory.sharedKey(key);
+        keys.put(sharedKey, key);
+        send(key, () -> {
+            try {
+                sharedCache.put(cacheName, sharedKey, objectMapper.writeValueAsBytes(value), ttl);
+            } catch (IOException | RuntimeException e) {
+                LOGGER.warn("Shared cache store failed for {} key {}: {}", cacheName, key, e.getMessage());
+            }
+            if (changed && invalidationBus != null) {
+                try {
+                    invalidationBus.publish(new CacheInvalidation(origin, cacheName, sharedKey));
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Cache invalidation broadcast failed for {} key {}: {}", cacheName, key,
+                        e.getMessage());
+                }
+            }
+        });
+        return value;
+    }
+
+    /**
+     * Returns the node cache key stored under {@code sharedKey} and forgets it.
+     *
+     * @return the key, or {@code null} when this node does not hold it
+     */
+    Object removeKey(final String sharedKey) {
+        return keys.remove(sharedKey);
+    }
+
+    /**
+     * Forgets a key evicted from the node cache.
+     */
+    void evicted(final Object key) {
+        keys.remove(AuditionCacheFactory.sharedKey(key), key);
+    }
+
+    private Object decode(final byte[] bytes) throws IOException {
+        if (bytes == null) {
+            return null;
+        }
+        final Object value = objectMapper.readValue(bytes, valueType);
+        return value instanceof List<?> list ? List.copyOf(list) : value;
+    }
+
+    private void send(final Object key, final Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("Shared cache update skipped for {} key {}: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    private static Counter counter(final MeterRegistry meterRegistry, final String cacheName, final String result) {
+        return Counter.builder("audition.cache.shared")
+            .description("Node cache loads answered by the shared tier (hit) or passed on to the upstream (miss)")
+            .tag("cache", cacheName)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
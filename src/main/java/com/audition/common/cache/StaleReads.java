@@ -0,0 +1,79 @@
+package com.audition.common.cache;
+
+import io.micrometer.context.ContextRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records whether any data served to the current request was stale, and how old the oldest of it was.
+ *
+ * <p>
+ * One instance is opened per request on the request thread. It is registered with the Micrometer
+ * {@link ContextRegistry}, so it follows the request onto {@code upstreamExecutor} threads through the context
+ * propagating task decorator, and into the Reactor context of reactive return values under {@link #CONTEXT_KEY}.
+ * </p>
+ */
+public final class StaleReads {
+
+    public static final String CONTEXT_KEY = StaleReads.class.getName();
+
+    private static final ThreadLocal<StaleReads> CURRENT = new ThreadLocal<>();
+
+    static {
+        ContextRegistry.getInstance().registerThreadLocalAccessor(CONTEXT_KEY, CURRENT::get, CURRENT::set,
+            CURRENT::remove);
+    }
+
+    private final AtomicLong maxAgeMillis = new AtomicLong(-1);
+
+    private StaleReads() {
+    }
+
+    /**
+     * Starts tracking for the request running on the current thread.
+     *
+     * @return the tracker, to be kept with the request
+     */
+    public static StaleReads open() {
+        final StaleReads reads = new StaleReads();
+        CURRENT.set(reads);
+        return reads;
+    }
+
+    /**
+     * Detaches the tracker from the current thread.
+     */
+    public static void close() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Records a stale value served on the current thread. Does nothing outside a tracked request, for example during
+     * a background refresh.
+     *
+     * @param age how long ago the value was fetched
+     */
+    public static void record(final Duration age) {
+        record(CURRENT.get(), age);
+    }
+
+    /**
+     * Records a stale value served to the request owning the given tracker.
+     *
+     * @param reads the tracker, may be {@code null}
+     * @param age   how long ago the value was fetched
+     */
+    public static void record(final StaleReads reads, final Duration age) {
+        if (reads != null) {
+            reads.maxAgeMillis.accumulateAndGet(age.toMillis(), Math::max);
+        }
+    }
+
+    public boolean isStale() {
+        return maxAgeMillis.get() >= 0;
+    }
+
+    public Duration getMaxAge() {
+        return Duration.ofMillis(Math.max(0, maxAgeMillis.get()));
+    }
+}
@@ -0,0 +1,120 @@
+package com.audition.common.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Asynchronous variant of {@link TieredCacheLoader}. The shared tier is consulted on the cache's executor, since a
+ * real shared store is a network call.
+ */
+final class TieredAsyncCacheLoader<K, V> implements AsyncCacheLoader<K, V> {
+
+    private final SharedTier tier;
+    private final AsyncCacheLoader<K, V> delegate;
+
+    TieredAsyncCacheLoader(final SharedTier tier, final AsyncCacheLoader<K, V> delegate) {
+        this.tier = tier;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public CompletableFuture<V> asyncLoad(final K key, final Executor executor) {
+        return CompletableFuture.supplyAsync(() -> tier.<V>get(key), executor)
+            .thenCompose(shared -> shared != null ? CompletableFuture.completedFuture(shared) : load(key, executor));
+    }
+
+    @Override
+    public CompletableFuture<Map<K, V>> asyncLoadAll(final Set<? extends K> keys, final Executor executor) {
+        return CompletableFuture.supplyAsync(() -> sharedValues(keys), executor).thenCompose(values -> {
+            final Set<K> misses = new LinkedHashSet<>(keys);
+            misses.removeAll(values.keySet());
+            if (misses.isEmpty()) {
+                return CompletableFuture.completedFuture(values);
+            }
+            return loadAll(delegate, misses, executor).thenApply(loaded -> {
+                loaded.forEach((key, value) -> values.put(key, tier.share(key, value)));
+                return values;
+            });
+        });
+    }
+
+    @Override
+    public CompletableFuture<V> asyncReload(final K key, final V oldValue, final Executor executor) {
+        return CompletableFuture.supplyAsync(() -> tier.<V>get(key), executor).thenCompose(shared -> {
+            if (shared != null) {
+                return CompletableFuture.completedFuture(shared);
+            }
+            return reload(key, oldValue, executor)
+                .thenApply(value -> tier.share(key, value, !Objects.equals(value, oldValue)));
+        });
+    }
+
+    private Map<K, V> sharedValues(final Set<? extends K> keys) {
+        final Map<K, V> values = new LinkedHashMap<>();
+        for (final K key : keys) {
+            final V shared = tier.get(key);
+            if (shared != null) {
+                values.put(key, shared);
+            }
+        }
+        return values;
+    }
+
+    private CompletableFuture<V> load(final K key, final Executor executor) {
+        try {
+            return delegate.asyncLoad(key, executor).thenApply(value -> tier.<V>share(key, value));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private CompletableFuture<V> reload(final K key, final V oldValue, final Executor executor) {
+        try {
+            return delegate.asyncReload(key, oldValue, executor);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Bulk loads through {@code loader}. Loaders without a bulk load are called once per key, as Caffeine itself would.
+     */
+    static <K, V> CompletableFuture<Map<K, V>> loadAll(final AsyncCacheLoader<K, V> loader,
+        final Set<? extends K> keys, final Executor executor) {
+        try {
+            return loader.asyncLoadAll(keys, executor).<Map<K, V>>thenApply(LinkedHashMap::new);
+        } catch (UnsupportedOperationException e) {
+            return loadEach(loader, keys, executor);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static <K, V> CompletableFuture<Map<K, V>> loadEach(final AsyncCacheLoader<K, V> loader,
+        final Set<? extends K> keys, final Executor executor) {
+        final Map<K, CompletableFuture<? extends V>> futures = new LinkedHashMap<>();
+        try {
+            for (final K key : keys) {
+                futures.put(key, loader.asyncLoad(key, executor));
+            }
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).thenApply(done -> {
+            final Map<K, V> loaded = new LinkedHashMap<>();
+            futures.forEach((key, future) -> {
+                final V value = future.join();
+                if (value != null) {
+                    loaded.put(key, value);
+                }
+            });
+            return loaded;
+        });
+    }
+}
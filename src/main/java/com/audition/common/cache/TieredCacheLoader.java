@@ -0,0 +1,88 @@
+package com.audition.common.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Puts the {@link SharedTier} between a node cache and its upstream loader.
+ *
+ * <p>
+ * Loads and refreshes take the value from the shared tier when another node has fetched it recently, and otherwise
+ * call the upstream loader and share the result. A refresh that changes the value is broadcast, so that the other
+ * nodes drop their copy.
+ * </p>
+ *
+ * <p>
+ * Caffeine runs {@link #load} inside its map computation for the key, so only the shared lookup is made there; the
+ * store and the broadcast are sent on the cache's executor. Bulk loads and refreshes run outside the computation.
+ * </p>
+ */
+final class TieredCacheLoader<K, V> implements CacheLoader<K, V> {
+
+    private final SharedTier tier;
+    private final CacheLoader<K, V> delegate;
+
+    TieredCacheLoader(final SharedTier tier, final CacheLoader<K, V> delegate) {
+        this.tier = tier;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public V load(final K key) throws Exception {
+        final V shared = tier.get(key);
+        return shared != null ? shared : tier.share(key, delegate.load(key));
+    }
+
+    @Override
+    public Map<K, V> loadAll(final Set<? extends K> keys) throws Exception {
+        final Map<K, V> values = new LinkedHashMap<>();
+        final Set<K> misses = new LinkedHashSet<>();
+        for (final K key : keys) {
+            final V shared = tier.get(key);
+            if (shared == null) {
+                misses.add(key);
+            } else {
+                values.put(key, shared);
+            }
+        }
+        if (!misses.isEmpty()) {
+            for (final Map.Entry<? extends K, ? extends V> loaded : loadAll(delegate, misses).entrySet()) {
+                values.put(loaded.getKey(), tier.share(loaded.getKey(), loaded.getValue()));
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public V reload(final K key, final V oldValue) throws Exception {
+        final V shared = tier.get(key);
+        if (shared != null) {
+            return shared;
+        }
+        final V value = delegate.reload(key, oldValue);
+        return tier.share(key, value, !Objects.equals(value, oldValue));
+    }
+
+    /**
+     * Bulk loads through {@code loader}. Loaders without a bulk load are called once per key, as Caffeine itself would.
+     */
+    static <K, V> Map<? extends K, ? extends V> loadAll(final CacheLoader<K, V> loader, final Set<? extends K> keys)
+        throws Exception {
+        try {
+            return loader.loadAll(keys);
+        } catch (UnsupportedOperationException e) {
+            final Map<K, V> loaded = new LinkedHashMap<>();
+            for (final K key : keys) {
+                final V value = loader.load(key);
+                if (value != null) {
+                    loaded.put(key, value);
+                }
+            }
+            return loaded;
+        }
+    }
+}
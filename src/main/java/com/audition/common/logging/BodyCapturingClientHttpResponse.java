@@ -0,0 +1,61 @@
+package com.audition.common.logging;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Response decorator that tees a size-capped prefix of the body while it is being consumed and hands the captured
+ * stream to a callback once the response is closed.
+ */
+class BodyCapturingClientHttpResponse implements ClientHttpResponse {
+
+    private final ClientHttpResponse delegate;
+    private final int maxBodyBytes;
+    private final Consumer<CapturingInputStream> onClose;
+    private CapturingInputStream body;
+
+    BodyCapturingClientHttpResponse(final ClientHttpResponse delegate, final int maxBodyBytes,
+        final Consumer<CapturingInputStream> onClose) {
+        this.delegate = delegate;
+        this.maxBodyBytes = maxBodyBytes;
+        this.onClose = onClose;
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() throws IOException {
+        return delegate.getStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+        return delegate.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return delegate.getHeaders();
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+        if (body == null) {
+            body = new CapturingInputStream(delegate.getBody(), maxBodyBytes);
+        }
+        return body;
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (body != null) {
+                onClose.accept(body);
+            }
+        } finally {
+            delegate.close();
+        }
+    }
+}
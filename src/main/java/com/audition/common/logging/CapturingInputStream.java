@@ -0,0 +1,64 @@
+package com.audition.common.logging;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Passes a response body through unchanged while keeping a copy of at most {@code maxBytes} of it.
+ *
+ * <p>
+ * The consumer (usually Jackson) still reads straight from the socket; only the captured prefix is held in memory.
+ * </p>
+ */
+class CapturingInputStream extends FilterInputStream {
+
+    private final int maxBytes;
+    private final ByteArrayOutputStream captured;
+    private long totalBytes;
+
+    CapturingInputStream(final InputStream in, final int maxBytes) {
+        super(in);
+        this.maxBytes = Math.max(0, maxBytes);
+        this.captured = new ByteArrayOutputStream(Math.min(this.maxBytes, 1024));
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int b = super.read();
+        if (b != -1) {
+            totalBytes++;
+            if (captured.size() < maxBytes) {
+                captured.write(b);
+            }
+        }
+        return b;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        final int n = super.read(b, off, len);
+        if (n > 0) {
+            totalBytes += n;
+            final int room = maxBytes - captured.size();
+            if (room > 0) {
+                captured.write(b, off, Math.min(room, n));
+            }
+        }
+        return n;
+    }
+
+    long getTotalBytes() {
+        return totalBytes;
+    }
+
+    boolean isTruncated() {
+        return totalBytes > captured.size();
+    }
+
+    String getCapturedBody() {
+        return captured.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,53 @@
+package com.audition.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import net.logstash.logback.appender.listener.AppenderListener;
+import org.springframework.lang.NonNull;
+
+/**
+ * Counts log events that an asynchronous appender failed to queue, by level, and publishes the counts as
+ * {@code audition.logging.dropped}.
+ *
+ * <p>
+ * Logback creates one instance per appender it is registered on, in {@code logback-spring.xml}, before the application
+ * context exists, and Spring creates another to bind the meters. The counts are therefore kept in static fields shared
+ * by all instances.
+ * </p>
+ */
+public class DroppedLogEvents implements AppenderListener<ILoggingEvent>, MeterBinder {
+
+    static final String DROPPED = "audition.logging.dropped";
+
+    private static final List<Level> LEVELS = List.of(Level.TRACE, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR);
+    private static final LongAdder[] COUNTS = LEVELS.stream().map(level -> new LongAdder()).toArray(LongAdder[]::new);
+
+    @Override
+    public void eventAppendFailed(final Appender<ILoggingEvent> appender, final ILoggingEvent event,
+        final Throwable reason) {
+        final int index = LEVELS.indexOf(event.getLevel());
+        if (index >= 0) {
+            COUNTS[index].increment();
+        }
+    }
+
+    @Override
+    public void bindTo(@NonNull final MeterRegistry registry) {
+        for (int i = 0; i < LEVELS.size(); i++) {
+            FunctionCounter.builder(DROPPED, COUNTS[i], LongAdder::sum)
+                .description("Log events dropped because the asynchronous appender's buffer was full")
+                .tag("level", LEVELS.get(i).toString())
+                .register(registry);
+        }
+    }
+
+    static long dropped(final Level level) {
+        return COUNTS[LEVELS.indexOf(level)].sum();
+    }
+}
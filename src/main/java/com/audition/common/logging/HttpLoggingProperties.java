@@ -0,0 +1,41 @@
+package com.audition.common.logging;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for upstream request/response logging, bound from {@code httpLogging.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "http-logging")
+public class HttpLoggingProperties {
+
+    /**
+     * Fraction of successful exchanges, between 0 and 1, that are logged. Failed exchanges are always logged.
+     */
+    private double sampleRate = 1.0;
+
+    /**
+     * Per-endpoint overrides of {@link #sampleRate}, keyed by an Ant-style pattern matched against the upstream path,
+     * e.g. <code>/posts/&#42;/comments</code>. The first matching pattern wins.
+     */
+    private Map<String, Double> endpoints = new LinkedHashMap<>();
+
+    /**
+     * Whether response bodies of logged exchanges may be captured at all.
+     */
+    private boolean captureBody;
+
+    /**
+     * Maximum number of request or response body bytes included in a log event; the remainder is streamed through
+     * untouched.
+     */
+    private int maxBodyBytes = 2048;
+
+    /**
+     * Fraction of logged exchanges, between 0 and 1, whose response body is captured.
+     */
+    private double bodySampleRate = 0.01;
+}
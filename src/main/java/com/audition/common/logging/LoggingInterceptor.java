@@ -2,25 +2,41 @@ package com.audition.common.logging;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
-import org.springframework.util.StreamUtils;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
 
 public class LoggingInterceptor implements ClientHttpRequestInterceptor {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LoggingInterceptor.class);
+    private static final String EXCHANGE_MESSAGE =
+        "upstream method={} uri={} status={} durationMs={} requestBody=\"{}\" responseBytes={} responseBody=\"{}\"";
+    private static final String NOT_CAPTURED = "-";
+
+    private final HttpLoggingProperties properties;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    public LoggingInterceptor(final HttpLoggingProperties properties) {
+        this.properties = properties;
+    }
 
     /**
-     * Intercepts and logs the HTTP request and response.
+     * Intercepts the HTTP exchange and logs it as a single event.
      *
      * <p>
-     * This method is invoked when intercepting an HTTP request before it is executed and after receiving the HTTP
-     * response. It logs the details of the request, including the HTTP method, URI, headers, and request body. After
-     * the request is executed, it logs the response status code, headers, and response body.
+     * Successful exchanges are sampled using the rate configured for the upstream path, so the cost of logging stays
+     * flat as traffic grows; failed exchanges are always logged at WARN. Request and response bodies are truncated to
+     * {@code maxBodyBytes}. The response body is never buffered: when body capture is enabled, a size-capped copy is
+     * taken while the body is streamed to the message converter and the event is emitted once the response is closed.
      * </p>
      *
      * @param request   The intercepted {@link HttpRequest} instance representing the HTTP request.
@@ -33,27 +49,62 @@ public class LoggingInterceptor implements ClientHttpRequestInterceptor {
     @Override
     public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
         throws IOException {
-        logRequest(request, body);
-        ClientHttpResponse response = execution.execute(request, body);
-        logResponse(response);
+        if (!LOGGER.isInfoEnabled()) {
+            return execution.execute(request, body);
+        }
+        final boolean sampled = isSampled(request);
+        final long start = System.nanoTime();
+        final ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn(EXCHANGE_MESSAGE, request.getMethod(), request.getURI(), e.getClass().getSimpleName(),
+                elapsedMillis(start), truncate(body), NOT_CAPTURED, NOT_CAPTURED);
+            throw e;
+        }
+        final HttpStatusCode status = response.getStatusCode();
+        if (status.isError()) {
+            LOGGER.warn(EXCHANGE_MESSAGE, request.getMethod(), request.getURI(), status.value(),
+                elapsedMillis(start), truncate(body), response.getHeaders().getContentLength(), NOT_CAPTURED);
+        } else if (sampled && isBodyCaptureSampled()) {
+            return new BodyCapturingClientHttpResponse(response, properties.getMaxBodyBytes(),
+                captured -> LOGGER.info(EXCHANGE_MESSAGE, request.getMethod(), request.getURI(), status.value(),
+                    elapsedMillis(start), truncate(body), captured.getTotalBytes(),
+                    captured.isTruncated() ? captured.getCapturedBody() + "..." : captured.getCapturedBody()));
+        } else if (sampled) {
+            LOGGER.info(EXCHANGE_MESSAGE, request.getMethod(), request.getURI(), status.value(),
+                elapsedMillis(start), truncate(body), response.getHeaders().getContentLength(), NOT_CAPTURED);
+        }
         return response;
     }
 
-    private void logRequest(HttpRequest request, byte[] body) {
-        LOGGER.info("===========================request begin==============================");
-        LOGGER.info("URI         : {}", request.getURI());
-        LOGGER.info("Method      : {}", request.getMethod());
-        LOGGER.info("Headers     : {}", request.getHeaders());
-        LOGGER.info("Request body: {}", new String(body, StandardCharsets.UTF_8));
-        LOGGER.info("==========================request end================================");
+    private boolean isSampled(final HttpRequest request) {
+        return ThreadLocalRandom.current().nextDouble() < sampleRateFor(request.getURI().getPath());
+    }
+
+    private double sampleRateFor(final String path) {
+        for (Map.Entry<String, Double> endpoint : properties.getEndpoints().entrySet()) {
+            if (pathMatcher.match(endpoint.getKey(), path)) {
+                return endpoint.getValue();
+            }
+        }
+        return properties.getSampleRate();
+    }
+
+    private boolean isBodyCaptureSampled() {
+        return properties.isCaptureBody() && ThreadLocalRandom.current().nextDouble() < properties.getBodySampleRate();
+    }
+
+    private String truncate(final byte[] body) {
+        if (body.length == 0) {
+            return "";
+        }
+        final int length = Math.min(body.length, properties.getMaxBodyBytes());
+        final String text = new String(body, 0, length, StandardCharsets.UTF_8);
+        return length < body.length ? text + "..." : text;
     }
 
-    private void logResponse(ClientHttpResponse response) throws IOException {
-        LOGGER.info("============================response begin============================");
-        LOGGER.info("Status code  : {}", response.getStatusCode());
-        LOGGER.info("Status text  : {}", response.getStatusText());
-        LOGGER.info("Headers      : {}", response.getHeaders());
-        LOGGER.info("Response body: {}", StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8));
-        LOGGER.info("=======================response end==================================");
+    private static long elapsedMillis(final long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
     }
-}
\ No newline at end of file
+}
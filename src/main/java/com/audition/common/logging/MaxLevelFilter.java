@@ -0,0 +1,27 @@
+package com.audition.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * The counterpart of logback's {@code ThresholdFilter}: denies events above the configured level, so that events can
+ * be routed to different appenders by level.
+ */
+public class MaxLevelFilter extends Filter<ILoggingEvent> {
+
+    private Level level = Level.INFO;
+
+    public void setLevel(final String level) {
+        this.level = Level.toLevel(level, Level.INFO);
+    }
+
+    @Override
+    public FilterReply decide(final ILoggingEvent event) {
+        if (!isStarted()) {
+            return FilterReply.NEUTRAL;
+        }
+        return event.getLevel().toInt() > level.toInt() ? FilterReply.DENY : FilterReply.NEUTRAL;
+    }
+}
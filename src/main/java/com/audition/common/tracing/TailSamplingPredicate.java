@@ -0,0 +1,82 @@
+package com.audition.common.tracing;
+
+import io.micrometer.tracing.exporter.FinishedSpan;
+import io.micrometer.tracing.exporter.SpanExportingPredicate;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Decides, once a span has ended, whether it is exported: spans that failed or were slow always are, the rest only for
+ * a {@link TailSamplingProperties#getProbability() fraction} of the traces.
+ *
+ * <p>
+ * The fraction is taken from the low 64 bits of the trace id rather than at random, so all spans of a sampled trace are
+ * exported together, across services as well, and an unsampled trace costs no more than the comparison. Failed and slow
+ * spans are kept on their own, without the rest of their trace.
+ * </p>
+ *
+ * <p>
+ * The decision is taken per span and only applies to export: spans are still recorded for every traced request, so
+ * it saves exporter bandwidth and storage, not request overhead.
+ * </p>
+ */
+public class TailSamplingPredicate implements SpanExportingPredicate {
+
+    static final String OUTCOME_TAG = "outcome";
+    static final String SERVER_ERROR = "SERVER_ERROR";
+    static final String ERROR_TAG = "error";
+
+    private static final long BUCKETS = 10_000;
+    private static final int LOW_BITS_HEX_LENGTH = 16;
+
+    private final boolean keepErrors;
+    private final Duration slowThreshold;
+    private final long sampledBuckets;
+
+    public TailSamplingPredicate(final TailSamplingProperties properties) {
+        this.keepErrors = properties.isKeepErrors();
+        this.slowThreshold = properties.getSlowThreshold();
+        this.sampledBuckets = Math.round(Math.min(1, Math.max(0, properties.getProbability())) * BUCKETS);
+    }
+
+    @Override
+    public boolean isExportable(final FinishedSpan span) {
+        if (keepErrors && failed(span)) {
+            return true;
+        }
+        if (slowThreshold != null
+            && Duration.between(span.getStartTimestamp(), span.getEndTimestamp()).compareTo(slowThreshold) >= 0) {
+            return true;
+        }
+        return sampled(span.getTraceId());
+    }
+
+    private static boolean failed(final FinishedSpan span) {
+        if (span.getError() != null) {
+            return true;
+        }
+        final Map<String, String> tags = span.getTags();
+        return tags.containsKey(ERROR_TAG) || SERVER_ERROR.equals(tags.get(OUTCOME_TAG));
+    }
+
+    boolean sampled(final String traceId) {
+        if (sampledBuckets >= BUCKETS) {
+            return true;
+        }
+        if (sampledBuckets <= 0 || traceId == null) {
+            return false;
+        }
+        return Long.remainderUnsigned(lowBits(traceId), BUCKETS) < sampledBuckets;
+    }
+
+    /**
+     * Parses the last 16 hex digits of the trace id without creating a substring.
+     */
+    private static long lowBits(final String traceId) {
+        long bits = 0;
+        for (int i = Math.max(0, traceId.length() - LOW_BITS_HEX_LENGTH); i < traceId.length(); i++) {
+            bits = (bits << 4) | (Character.digit(traceId.charAt(i), 16) & 0xF);
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,35 @@
+package com.audition.common.tracing;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the export decision taken when a span ends, bound from {@code traceSampling.tail.*}. Which traces are
+ * recorded at all is the head sampling decision, {@code management.tracing.sampling.probability}.
+ */
+@Data
+@ConfigurationProperties(prefix = "trace-sampling.tail")
+public class TailSamplingProperties {
+
+    /**
+     * Whether recorded spans are filtered before export. When disabled, every recorded span is exported.
+     */
+    private boolean enabled;
+
+    /**
+     * Whether spans that ended with an error are always exported.
+     */
+    private boolean keepErrors = true;
+
+    /**
+     * Spans lasting at least this long are always exported.
+     */
+    private Duration slowThreshold = Duration.ofMillis(500);
+
+    /**
+     * Fraction of the remaining traces, between 0 and 1, that are exported. The decision depends only on the trace id,
+     * so a trace is either exported whole or not at all.
+     */
+    private double probability = 0.01;
+}
@@ -0,0 +1,47 @@
+package com.audition.configuration;
+
+import com.audition.common.cache.AuditionCacheFactory;
+import com.audition.common.cache.AuditionCacheProperties;
+import com.audition.common.cache.CacheInvalidationBus;
+import com.audition.common.cache.InMemorySharedCache;
+import com.audition.common.cache.SharedCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(AuditionCacheProperties.class)
+public class CacheConfiguration {
+
+    private static final long SHARED_TIER_MAXIMUM_SIZE = 10_000;
+
+    /**
+     * Background refreshes block on the upstream, so they run on {@code upstreamExecutor} rather than on the common
+     * fork-join pool. A {@link SharedCache} and {@link CacheInvalidationBus} bean, when present, become the second
+     * cache tier, which stores values as JSON written by the application {@link ObjectMapper}.
+     */
+    @Bean
+    public AuditionCacheFactory auditionCacheFactory(AuditionCacheProperties properties, MeterRegistry meterRegistry,
+        @Qualifier(ExecutorConfiguration.UPSTREAM_EXECUTOR) Executor refreshExecutor,
+        ObjectProvider<SharedCache> sharedCache, ObjectProvider<CacheInvalidationBus> invalidationBus,
+        ObjectMapper objectMapper) {
+        return new AuditionCacheFactory(properties, meterRegistry, refreshExecutor, sharedCache.getIfAvailable(),
+            invalidationBus.getIfAvailable(), objectMapper);
+    }
+
+    /**
+     * Single-process shared tier, for trying out the tiering locally. Deployments with several replicas provide
+     * {@link SharedCache} and {@link CacheInvalidationBus} beans backed by a real shared store instead.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "caches.sharedTier", havingValue = "in-memory")
+    public InMemorySharedCache inMemorySharedCache() {
+        return new InMemorySharedCache(SHARED_TIER_MAXIMUM_SIZE);
+    }
+}
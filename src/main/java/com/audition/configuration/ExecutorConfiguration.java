@@ -0,0 +1,94 @@
+package com.audition.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+// scheduled jobs, such as the local dataset reload, run on the Spring Boot task scheduler
+@Configuration
+@EnableScheduling
+public class ExecutorConfiguration {
+
+    public static final String UPSTREAM_EXECUTOR = "upstreamExecutor";
+    public static final String STREAMING_EXECUTOR = "streamingExecutor";
+
+    /**
+     * Bounded pool used to issue independent upstream calls concurrently.
+     *
+     * <p>
+     * Tracing and logging context is propagated to the pool threads, so upstream calls made on them stay part of the
+     * incoming request's trace. A full queue rejects new work instead of growing without bound.
+     * </p>
+     */
+    @Bean(name = UPSTREAM_EXECUTOR)
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public AsyncTaskExecutor upstreamExecutor(@Value("${upstreamExecutor.corePoolSize:16}") int corePoolSize,
+        @Value("${upstreamExecutor.maxPoolSize:64}") int maxPoolSize,
+        @Value("${upstreamExecutor.queueCapacity:256}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("upstream-");
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * Virtual thread variant of {@link #upstreamExecutor}, active when {@code spring.threads.virtual.enabled=true}.
+     *
+     * <p>
+     * Every task gets its own virtual thread, so there is no pool to size; the concurrency limit only protects the
+     * upstream connection pools from unbounded fan-out. Like a full queue in the platform variant, it rejects new work
+     * rather than making the caller wait.
+     * </p>
+     */
+    @Bean(name = UPSTREAM_EXECUTOR)
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public AsyncTaskExecutor virtualThreadUpstreamExecutor(
+        @Value("${upstreamExecutor.virtualConcurrencyLimit:1024}") int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new RejectingVirtualThreadExecutor("upstream-vt-", concurrencyLimit);
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        return executor;
+    }
+
+    /**
+     * Bounded pool that writes {@code StreamingResponseBody} responses, such as the NDJSON list streams, once the
+     * request thread has returned. Spring MVC would otherwise fall back to a {@link SimpleAsyncTaskExecutor} with one
+     * new thread per response and no limit.
+     */
+    @Bean(name = STREAMING_EXECUTOR)
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public AsyncTaskExecutor streamingExecutor(@Value("${streamingExecutor.corePoolSize:8}") int corePoolSize,
+        @Value("${streamingExecutor.maxPoolSize:32}") int maxPoolSize,
+        @Value("${streamingExecutor.queueCapacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("streaming-");
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * Virtual thread variant of {@link #streamingExecutor}, active when {@code spring.threads.virtual.enabled=true}.
+     */
+    @Bean(name = STREAMING_EXECUTOR)
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public AsyncTaskExecutor virtualThreadStreamingExecutor(
+        @Value("${streamingExecutor.virtualConcurrencyLimit:256}") int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new RejectingVirtualThreadExecutor("streaming-vt-", concurrencyLimit);
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        return executor;
+    }
+}
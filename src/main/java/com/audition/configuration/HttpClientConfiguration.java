@@ -0,0 +1,187 @@
+package com.audition.configuration;
+
+import com.audition.common.logging.HttpLoggingProperties;
+import com.audition.common.logging.LoggingInterceptor;
+import com.audition.integration.SingleFlight;
+import com.audition.integration.UpstreamMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.time.Duration;
+import java.util.List;
+import org.apache.hc.client5.http.ConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Pooled, keep-alive HTTP clients for the upstream post and comment APIs.
+ *
+ * <p>
+ * Each upstream gets its own connection pool so that a slow comments endpoint cannot starve post lookups. Pool
+ * usage is published through Micrometer under {@code httpcomponents.httpclient.pool.*}, tagged with the client name.
+ * </p>
+ */
+@Configuration
+@EnableConfigurationProperties(HttpLoggingProperties.class)
+public class HttpClientConfiguration {
+
+    public static final String POST_CLIENT = "postClient";
+    public static final String COMMENT_CLIENT = "commentClient";
+
+    @Bean
+    @ConfigurationProperties(prefix = "post-client")
+    public UpstreamClientProperties postClientProperties() {
+        return new UpstreamClientProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "comment-client")
+    public UpstreamClientProperties commentClientProperties() {
+        return new UpstreamClientProperties();
+    }
+
+    @Bean
+    public PoolingHttpClientConnectionManager postClientConnectionManager(
+        @Qualifier("postClientProperties") UpstreamClientProperties properties) {
+        return connectionManager(properties);
+    }
+
+    @Bean
+    public PoolingHttpClientConnectionManager commentClientConnectionManager(
+        @Qualifier("commentClientProperties") UpstreamClientProperties properties) {
+        return connectionManager(properties);
+    }
+
+    @Bean
+    public CloseableHttpClient postHttpClient(
+        @Qualifier("postClientConnectionManager") PoolingHttpClientConnectionManager connectionManager,
+        @Qualifier("postClientProperties") UpstreamClientProperties properties) {
+        return httpClient(connectionManager, properties);
+    }
+
+    @Bean
+    public CloseableHttpClient commentHttpClient(
+        @Qualifier("commentClientConnectionManager") PoolingHttpClientConnectionManager connectionManager,
+        @Qualifier("commentClientProperties") UpstreamClientProperties properties) {
+        return httpClient(connectionManager, properties);
+    }
+
+    @Bean
+    public RestTemplate postRestTemplate(@Qualifier("postHttpClient") CloseableHttpClient httpClient,
+        ObjectMapper objectMapper, HttpLoggingProperties loggingProperties, UpstreamMetrics upstreamMetrics) {
+        return restTemplate(httpClient, objectMapper, loggingProperties, upstreamMetrics);
+    }
+
+    @Bean
+    public RestTemplate commentRestTemplate(@Qualifier("commentHttpClient") CloseableHttpClient httpClient,
+        ObjectMapper objectMapper, HttpLoggingProperties loggingProperties, UpstreamMetrics upstreamMetrics) {
+        return restTemplate(httpClient, objectMapper, loggingProperties, upstreamMetrics);
+    }
+
+    @Bean
+    public MeterBinder postClientPoolMetrics(
+        @Qualifier("postClientConnectionManager") PoolingHttpClientConnectionManager connectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POST_CLIENT);
+    }
+
+    @Bean
+    public MeterBinder commentClientPoolMetrics(
+        @Qualifier("commentClientConnectionManager") PoolingHttpClientConnectionManager connectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, COMMENT_CLIENT);
+    }
+
+    /**
+     * Shared by both client implementations so identical upstream calls are coalesced whichever issues them.
+     */
+    @Bean
+    public SingleFlight upstreamSingleFlight(MeterRegistry meterRegistry) {
+        return new SingleFlight(meterRegistry);
+    }
+
+    private static PoolingHttpClientConnectionManager connectionManager(final UpstreamClientProperties properties) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(properties.getMaxConnections())
+            .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(timeout(properties.getConnectTimeout()))
+                .setSocketTimeout(timeout(properties.getSocketTimeout()))
+                .setTimeToLive(timeValue(properties.getTimeToLive()))
+                .setValidateAfterInactivity(timeValue(properties.getValidateAfterInactivity()))
+                .build())
+            .build();
+    }
+
+    /**
+     * With content compression on, the client sends {@code Accept-Encoding: gzip, x-gzip, deflate} and wraps a
+     * compressed response in a decompressing stream, so the Jackson converter still reads it incrementally.
+     */
+    private static CloseableHttpClient httpClient(final PoolingHttpClientConnectionManager connectionManager,
+        final UpstreamClientProperties properties) {
+        final HttpClientBuilder builder = HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(timeout(properties.getConnectionRequestTimeout()))
+                .setResponseTimeout(timeout(properties.getResponseTimeout()))
+                .build())
+            .setKeepAliveStrategy(keepAliveStrategy(timeValue(properties.getKeepAlive())))
+            .evictExpiredConnections()
+            .evictIdleConnections(timeValue(properties.getIdleEviction()));
+        if (!properties.isContentCompression()) {
+            builder.disableContentCompression();
+        }
+        return builder.build();
+    }
+
+    /**
+     * Responses are not buffered: the Jackson converter deserializes directly from the pooled connection's stream, so
+     * large list payloads are never materialized as a byte array or String.
+     */
+    private static RestTemplate restTemplate(final CloseableHttpClient httpClient, final ObjectMapper objectMapper,
+        final HttpLoggingProperties loggingProperties, final UpstreamMetrics upstreamMetrics) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        restTemplate.getInterceptors().add(new LoggingInterceptor(loggingProperties));
+        restTemplate.getInterceptors().add(upstreamMetrics.interceptor());
+        restTemplate.setMessageConverters(List.of(new MappingJackson2HttpMessageConverter(objectMapper)));
+        return restTemplate;
+    }
+
+    /**
+     * Honours a server supplied {@code Keep-Alive: timeout=n} hint, but never keeps a connection longer than the
+     * configured maximum so that connections are recycled before intermediaries silently drop them.
+     */
+    private static ConnectionKeepAliveStrategy keepAliveStrategy(final TimeValue maxKeepAlive) {
+        return (response, context) -> {
+            final TimeValue serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE
+                .getKeepAliveDuration(response, context);
+            if (TimeValue.isPositive(serverKeepAlive) && serverKeepAlive.compareTo(maxKeepAlive) < 0) {
+                return serverKeepAlive;
+            }
+            return maxKeepAlive;
+        };
+    }
+
+    private static Timeout timeout(final Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+
+    private static TimeValue timeValue(final Duration duration) {
+        return TimeValue.ofMilliseconds(duration.toMillis());
+    }
+}
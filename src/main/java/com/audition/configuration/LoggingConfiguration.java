@@ -0,0 +1,17 @@
+package com.audition.configuration;
+
+import com.audition.common.logging.DroppedLogEvents;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class LoggingConfiguration {
+
+    /**
+     * Publishes the events dropped by the asynchronous appenders of the {@code prod} logging profile.
+     */
+    @Bean
+    public DroppedLogEvents droppedLogEvents() {
+        return new DroppedLogEvents();
+    }
+}
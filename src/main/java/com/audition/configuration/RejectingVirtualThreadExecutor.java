@@ -0,0 +1,49 @@
+package com.audition.configuration;
+
+import java.util.concurrent.Semaphore;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+/**
+ * Starts one virtual thread per task, and rejects a task with a {@link TaskRejectedException}, a
+ * {@code RejectedExecutionException}, while {@code concurrencyLimit} tasks are already running.
+ *
+ * <p>
+ * {@link SimpleAsyncTaskExecutor#setConcurrencyLimit} would instead block the submitting thread until a task ends, so
+ * an overloaded node would queue requests without bound rather than answer them with {@code 503}.
+ * </p>
+ */
+class RejectingVirtualThreadExecutor extends SimpleAsyncTaskExecutor {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int concurrencyLimit;
+    private final transient Semaphore permits;
+
+    RejectingVirtualThreadExecutor(final String threadNamePrefix, final int concurrencyLimit) {
+        super(threadNamePrefix);
+        this.concurrencyLimit = concurrencyLimit;
+        this.permits = new Semaphore(concurrencyLimit);
+        setVirtualThreads(true);
+    }
+
+    @Override
+    protected void doExecute(final Runnable task) {
+        if (!permits.tryAcquire()) {
+            throw new TaskRejectedException("Executor " + getThreadNamePrefix() + " is running " + concurrencyLimit
+                + " tasks");
+        }
+        try {
+            super.doExecute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException | Error e) {
+            permits.release();
+            throw e;
+        }
+    }
+}
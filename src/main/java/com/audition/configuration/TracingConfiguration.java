@@ -0,0 +1,25 @@
+package com.audition.configuration;
+
+import com.audition.common.tracing.TailSamplingPredicate;
+import com.audition.common.tracing.TailSamplingProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(TailSamplingProperties.class)
+public class TracingConfiguration {
+
+    /**
+     * Filters the spans recorded under the head sampling probability before they reach a span exporter. It has no
+     * effect without one, such as Zipkin or OTLP; it does not reduce how many requests are traced, which is only
+     * {@code management.tracing.sampling.probability}. Raise that probability when enabling this, so that the errors
+     * and slow requests the predicate keeps are recorded in the first place.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "traceSampling.tail.enabled", havingValue = "true")
+    public TailSamplingPredicate tailSamplingPredicate(TailSamplingProperties properties) {
+        return new TailSamplingPredicate(properties);
+    }
+}
@@ -0,0 +1,57 @@
+package com.audition.configuration;
+
+import java.time.Duration;
+import lombok.Data;
+
+/**
+ * Connection pool and timeout settings for one upstream client, bound from {@code postClient.*} or
+ * {@code commentClient.*}.
+ */
+@Data
+public class UpstreamClientProperties {
+
+    private String baseUrl;
+
+    /**
+     * Maximum number of pooled connections across all routes.
+     */
+    private int maxConnections = 200;
+
+    /**
+     * Maximum number of pooled connections to a single host.
+     */
+    private int maxConnectionsPerRoute = 100;
+
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    private Duration socketTimeout = Duration.ofSeconds(5);
+
+    private Duration responseTimeout = Duration.ofSeconds(5);
+
+    /**
+     * How long a caller may wait to lease a connection from the pool before failing.
+     */
+    private Duration connectionRequestTimeout = Duration.ofMillis(500);
+
+    /**
+     * Upper bound for keeping an idle connection alive; shorter server {@code Keep-Alive} hints win.
+     */
+    private Duration keepAlive = Duration.ofSeconds(30);
+
+    /**
+     * Maximum lifetime of a pooled connection, regardless of activity.
+     */
+    private Duration timeToLive = Duration.ofMinutes(5);
+
+    /**
+     * Idle connections older than this are closed by the background evictor.
+     */
+    private Duration idleEviction = Duration.ofSeconds(30);
+
+    private Duration validateAfterInactivity = Duration.ofSeconds(2);
+
+    /**
+     * Advertise {@code Accept-Encoding} to the upstream and decompress compressed responses as they are read.
+     */
+    private boolean contentCompression = true;
+}
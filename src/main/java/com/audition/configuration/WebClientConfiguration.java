@@ -0,0 +1,77 @@
+package com.audition.configuration;
+
+import com.audition.integration.AuditionIntegrationClient;
+import com.audition.integration.UpstreamMetrics;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Non-blocking {@link WebClient}s for the upstream post and comment APIs, active when
+ * {@code integrationClient.type=web-client}.
+ *
+ * <p>
+ * The Reactor Netty connection pools reuse the {@code postClient.*} and {@code commentClient.*} settings of the
+ * blocking clients. Pool usage is published under {@code reactor.netty.connection.provider.*}.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = AuditionIntegrationClient.CLIENT_TYPE_PROPERTY, havingValue = "web-client")
+public class WebClientConfiguration {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider postConnectionProvider(
+        @Qualifier("postClientProperties") UpstreamClientProperties properties) {
+        return connectionProvider(HttpClientConfiguration.POST_CLIENT, properties);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider commentConnectionProvider(
+        @Qualifier("commentClientProperties") UpstreamClientProperties properties) {
+        return connectionProvider(HttpClientConfiguration.COMMENT_CLIENT, properties);
+    }
+
+    @Bean
+    public WebClient postWebClient(WebClient.Builder builder,
+        @Qualifier("postConnectionProvider") ConnectionProvider connectionProvider,
+        @Qualifier("postClientProperties") UpstreamClientProperties properties, UpstreamMetrics upstreamMetrics) {
+        return webClient(builder, connectionProvider, properties, upstreamMetrics);
+    }
+
+    @Bean
+    public WebClient commentWebClient(WebClient.Builder builder,
+        @Qualifier("commentConnectionProvider") ConnectionProvider connectionProvider,
+        @Qualifier("commentClientProperties") UpstreamClientProperties properties, UpstreamMetrics upstreamMetrics) {
+        return webClient(builder, connectionProvider, properties, upstreamMetrics);
+    }
+
+    private static ConnectionProvider connectionProvider(final String name, final UpstreamClientProperties properties) {
+        return ConnectionProvider.builder(name)
+            .maxConnections(properties.getMaxConnections())
+            .pendingAcquireTimeout(properties.getConnectionRequestTimeout())
+            .maxIdleTime(properties.getKeepAlive())
+            .maxLifeTime(properties.getTimeToLive())
+            .evictInBackground(properties.getIdleEviction())
+            .metrics(true)
+            .build();
+    }
+
+    private static WebClient webClient(final WebClient.Builder builder, final ConnectionProvider connectionProvider,
+        final UpstreamClientProperties properties, final UpstreamMetrics upstreamMetrics) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+            .responseTimeout(properties.getResponseTimeout())
+            // sends Accept-Encoding: gzip and inflates compressed responses chunk by chunk as they arrive
+            .compress(properties.isContentCompression());
+        return builder.clone()
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .filter(upstreamMetrics.filter())
+            .build();
+    }
+}
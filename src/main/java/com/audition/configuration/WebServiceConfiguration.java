@@ -1,39 +1,98 @@
 package com.audition.configuration;
 
-import com.audition.common.logging.LoggingInterceptor;
+import com.audition.model.AuditionComment;
+import com.audition.model.AuditionPost;
+import com.audition.web.CacheableResponses;
+import com.audition.web.FieldProjection;
+import com.audition.web.HttpCachingProperties;
+import com.audition.web.PreSerializedJsonHttpMessageConverter;
+import com.audition.web.SerializedResponseCache;
+import com.audition.web.StaleReadsInterceptor;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.util.List;
-import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.BufferingClientHttpRequestFactory;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@EnableConfigurationProperties(HttpCachingProperties.class)
 public class WebServiceConfiguration implements WebMvcConfigurer {
 
+    @Autowired
+    private transient ObjectProvider<SerializedResponseCache> responseCache;
+
+    @Autowired
+    @Qualifier(ExecutorConfiguration.STREAMING_EXECUTOR)
+    private transient ObjectProvider<AsyncTaskExecutor> streamingExecutor;
+
+    @Value("${streamingExecutor.timeout:30s}")
+    private transient Duration streamingTimeout;
+
     @Bean
     public ObjectMapper objectMapper() {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
         objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        objectMapper.addMixIn(AuditionPost.class, FieldProjection.Filtered.class);
+        objectMapper.addMixIn(AuditionComment.class, FieldProjection.Filtered.class);
+        objectMapper.setFilterProvider(FieldProjection.ALL_FIELDS);
         return objectMapper;
     }
 
+    /**
+     * Writes streamed responses on the bounded {@code streamingExecutor}. When it is full a new stream is rejected
+     * with {@code 503}, and a stream still running after {@code streamingExecutor.timeout} is ended.
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        streamingExecutor.ifAvailable(configurer::setTaskExecutor);
+        configurer.setDefaultTimeout(streamingTimeout.toMillis());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new StaleReadsInterceptor());
+    }
+
+    @Bean
+    public SerializedResponseCache serializedResponseCache(@Value("${responseCache.enabled:true}") boolean enabled,
+        @Value("${responseCache.maximumSize:1000}") long maximumSize, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new SerializedResponseCache(enabled, maximumSize, meterRegistry.getIfAvailable());
+    }
+
     @Bean
-    public RestTemplate restTemplate(ObjectMapper objectMapper) {
-        RestTemplate restTemplate = new RestTemplate(
-            new BufferingClientHttpRequestFactory(
-                new HttpComponentsClientHttpRequestFactory(HttpClients.createDefault())));
-        restTemplate.getInterceptors().add(new LoggingInterceptor());
-        restTemplate.setMessageConverters(List.of(new MappingJackson2HttpMessageConverter(objectMapper)));
-        return restTemplate;
+    public CacheableResponses cacheableResponses(SerializedResponseCache serializedResponseCache,
+        ObjectMapper objectMapper, HttpCachingProperties properties) {
+        return new CacheableResponses(serializedResponseCache, objectMapper, properties);
+    }
+
+    /**
+     * Replaces the default Jackson converter with one that reuses serialized bodies of cached responses.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter jackson) {
+                converters.set(i, new PreSerializedJsonHttpMessageConverter(jackson.getObjectMapper(),
+                    responseCache.getObject()));
+                return;
+            }
+        }
     }
 }
@@ -5,34 +5,24 @@ import com.audition.model.AuditionComment;
 import com.audition.model.AuditionCommentFilterDto;
 import com.audition.model.AuditionPost;
 import com.audition.model.AuditionPostFilterDto;
-import java.net.URI;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.HttpStatus;
-import org.springframework.stereotype.Component;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
+import java.util.Map;
 
-@Component
-public class AuditionIntegrationClient {
+/**
+ * Blocking access to the upstream posts and comments API.
+ */
+public interface AuditionIntegrationClient {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(AuditionIntegrationClient.class);
+    String POST_CACHE = "post";
+    String POSTS_CACHE = "posts";
+    String POST_COMMENTS_CACHE = "postComments";
+    String COMMENTS_CACHE = "comments";
 
-    @Value("${postClient.baseUrl}")
-    private transient String postUrl;
-
-    @Value("${commentClient.baseUrl}")
-    private transient String commentsUrl;
-
-    @Autowired
-    private transient RestTemplate restTemplate;
+    /**
+     * Selects the implementation: {@code rest-template} (default) or {@code web-client}.
+     */
+    String CLIENT_TYPE_PROPERTY = "integrationClient.type";
 
     /**
      * Retrieves audition posts based on the provided filter criteria.
@@ -41,22 +31,7 @@ public class AuditionIntegrationClient {
      * @return a list of audition posts matching the filter criteria
      * @throws SystemException if an error occurs while retrieving posts
      */
-    public List<AuditionPost> getPosts(AuditionPostFilterDto auditionPostFilterDto) {
-        try {
-            URI uri = UriComponentsBuilder.fromUriString(postUrl)
-                .queryParamIfPresent("userId", Optional.ofNullable(auditionPostFilterDto.userId()))
-                .queryParamIfPresent("id", Optional.ofNullable(auditionPostFilterDto.id()))
-                .queryParamIfPresent("title", Optional.ofNullable(auditionPostFilterDto.title()))
-                .build().toUri();
-
-            return restTemplate.exchange(uri, HttpMethod.GET, null,
-                new ParameterizedTypeReference<List<AuditionPost>>() {
-                }).getBody();
-        } catch (HttpClientErrorException e) {
-            LOGGER.error("Error retrieving posts", e);
-            throw new SystemException("Error retrieving posts: " + e.getMessage());
-        }
-    }
+    List<AuditionPost> getPosts(AuditionPostFilterDto auditionPostFilterDto);
 
     /**
      * Retrieves a specific audition post by its ID.
@@ -65,22 +40,17 @@ public class AuditionIntegrationClient {
      * @return the audition post with the specified ID
      * @throws SystemException if the requested post is not found or an error occurs during retrieval
      */
+    AuditionPost getPostById(String id);
 
-    public AuditionPost getPostById(String id) {
-        try {
-            URI uri = UriComponentsBuilder.fromUriString(postUrl)
-                .pathSegment(id)
-                .build().toUri();
-
-            return restTemplate.getForObject(uri, AuditionPost.class);
-        } catch (final HttpClientErrorException e) {
-            if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
-                throw new SystemException("Cannot find a Post with id " + id, "Resource Not Found", 404);
-            } else {
-                throw new SystemException("Error retrieving posts: " + e.getMessage());
-            }
-        }
-    }
+    /**
+     * Retrieves several audition posts by their IDs. Cached posts are returned as they are, and the rest are fetched
+     * together with multi-value {@code ?id=} queries rather than one request per post.
+     *
+     * @param ids the IDs of the audition posts to retrieve
+     * @return the posts found, keyed by ID; IDs that do not exist upstream are absent
+     * @throws SystemException if an error occurs while retrieving posts
+     */
+    Map<String, AuditionPost> getPostsByIds(Collection<String> ids);
 
     /**
      * Retrieves audition post comments for a specific post ID.
@@ -89,20 +59,17 @@ public class AuditionIntegrationClient {
      * @return the list of comments for the specified audition post
      * @throws SystemException if an error occurs while retrieving post comments
      */
+    List<AuditionComment> getPostComments(String postId);
 
-    public List<AuditionComment> getPostComments(String postId) {
-        try {
-            URI uri = UriComponentsBuilder.fromUriString(postUrl)
-                .pathSegment(postId, "comments")
-                .build().toUri();
-
-            return restTemplate.exchange(uri, HttpMethod.GET, null,
-                new ParameterizedTypeReference<List<AuditionComment>>() {
-                }).getBody();
-        } catch (HttpClientErrorException e) {
-            throw new SystemException("Error retrieving post comments: " + e.getMessage());
-        }
-    }
+    /**
+     * Retrieves the comments of several audition posts. Cached comment lists are returned as they are, and the rest
+     * are fetched together with multi-value {@code ?postId=} queries rather than one request per post.
+     *
+     * @param postIds the IDs of the audition posts whose comments to retrieve
+     * @return the comments keyed by post ID, an empty list for posts without comments
+     * @throws SystemException if an error occurs while retrieving comments
+     */
+    Map<String, List<AuditionComment>> getCommentsByPostIds(Collection<String> postIds);
 
     /**
      * Retrieves audition comments based on the provided filter criteria.
@@ -111,20 +78,23 @@ public class AuditionIntegrationClient {
      * @return a list of audition comments matching the filter criteria
      * @throws SystemException if an error occurs while retrieving comments
      */
+    List<AuditionComment> getComments(AuditionCommentFilterDto auditionCommentFilterDto);
+
+    /**
+     * Retrieves every audition post from the upstream, bypassing the caches and the last known good store, so that a
+     * bulk copy such as the local dataset is not kept a second time as model objects.
+     *
+     * @return all audition posts
+     * @throws SystemException if an error occurs while retrieving posts
+     */
+    List<AuditionPost> getAllPostsUncached();
 
-    public List<AuditionComment> getComments(AuditionCommentFilterDto auditionCommentFilterDto) {
-        try {
-            URI uri = UriComponentsBuilder.fromUriString(commentsUrl)
-                .queryParamIfPresent("postId", Optional.ofNullable(auditionCommentFilterDto.postId()))
-                .queryParamIfPresent("id", Optional.ofNullable(auditionCommentFilterDto.id()))
-                .queryParamIfPresent("name", Optional.ofNullable(auditionCommentFilterDto.name()))
-                .queryParamIfPresent("email", Optional.ofNullable(auditionCommentFilterDto.email()))
-                .build().toUri();
-            return restTemplate.exchange(uri, HttpMethod.GET, null,
-                new ParameterizedTypeReference<List<AuditionComment>>() {
-                }).getBody();
-        } catch (HttpClientErrorException e) {
-            throw new SystemException("Error retrieving comments: " + e.getMessage());
-        }
-    }
+    /**
+     * Retrieves every audition comment from the upstream, bypassing the caches and the last known good store, like
+     * {@link #getAllPostsUncached()}.
+     *
+     * @return all audition comments
+     * @throws SystemException if an error occurs while retrieving comments
+     */
+    List<AuditionComment> getAllCommentsUncached();
 }
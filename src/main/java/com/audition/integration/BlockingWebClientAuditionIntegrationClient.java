@@ -0,0 +1,65 @@
+package com.audition.integration;
+
+import com.audition.model.AuditionComment;
+import com.audition.model.AuditionCommentFilterDto;
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostFilterDto;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Blocking view of {@link ReactiveAuditionIntegrationClient}, so that blocking callers such as
+ * {@code AuditionService} keep working when {@code integrationClient.type=web-client}. It must not be called from a
+ * Reactor Netty event loop thread.
+ */
+@Component
+@ConditionalOnProperty(name = AuditionIntegrationClient.CLIENT_TYPE_PROPERTY, havingValue = "web-client")
+public class BlockingWebClientAuditionIntegrationClient implements AuditionIntegrationClient {
+
+    @Autowired
+    private transient ReactiveAuditionIntegrationClient reactiveClient;
+
+    @Override
+    public List<AuditionPost> getPosts(AuditionPostFilterDto auditionPostFilterDto) {
+        return reactiveClient.getPosts(auditionPostFilterDto).collectList().block();
+    }
+
+    @Override
+    public AuditionPost getPostById(String id) {
+        return reactiveClient.getPostById(id).block();
+    }
+
+    @Override
+    public Map<String, AuditionPost> getPostsByIds(Collection<String> ids) {
+        return reactiveClient.getPostsByIds(ids).block();
+    }
+
+    @Override
+    public List<AuditionComment> getPostComments(String postId) {
+        return reactiveClient.getPostComments(postId).collectList().block();
+    }
+
+    @Override
+    public Map<String, List<AuditionComment>> getCommentsByPostIds(Collection<String> postIds) {
+        return reactiveClient.getCommentsByPostIds(postIds).block();
+    }
+
+    @Override
+    public List<AuditionComment> getComments(AuditionCommentFilterDto auditionCommentFilterDto) {
+        return reactiveClient.getComments(auditionCommentFilterDto).collectList().block();
+    }
+
+    @Override
+    public List<AuditionPost> getAllPostsUncached() {
+        return reactiveClient.getAllPostsUncached().collectList().block();
+    }
+
+    @Override
+    public List<AuditionComment> getAllCommentsUncached() {
+        return reactiveClient.getAllCommentsUncached().collectList().block();
+    }
+}
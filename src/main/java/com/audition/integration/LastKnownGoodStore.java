@@ -0,0 +1,192 @@
+package com.audition.integration;
+
+import com.audition.common.cache.StaleReads;
+import com.audition.common.exception.SystemException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Keeps the last value successfully fetched from the upstream for each read, long after it has left the regular
+ * caches, so that it can be served when the upstream is failing.
+ *
+ * <p>
+ * A stale value is only served for upstream failures: I/O errors, timeouts, 5xx responses, an open circuit or a full
+ * bulkhead. Client errors such as a 404 are always passed on. Every stale value served is recorded in
+ * {@link StaleReads} for the response headers and counted in {@code audition.upstream.stale}.
+ * </p>
+ */
+@Component
+public class LastKnownGoodStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LastKnownGoodStore.class);
+    private static final String CACHE_NAME = "lastKnownGood";
+    private static final UpstreamFailurePredicate UPSTREAM_FAILURE = new UpstreamFailurePredicate();
+
+    @Value("${lastKnownGood.enabled:true}")
+    private transient boolean enabled;
+
+    @Value("${lastKnownGood.maximumSize:10000}")
+    private transient long maximumSize;
+
+    @Value("${lastKnownGood.maxStale:24h}")
+    private transient Duration maxStale;
+
+    @Autowired
+    private transient MeterRegistry meterRegistry;
+
+    private transient Cache<Key, Entry> entries;
+    private transient Counter served;
+
+    @PostConstruct
+    void init() {
+        entries = Caffeine.newBuilder()
+            .maximumSize(enabled ? maximumSize : 0)
+            .expireAfterWrite(maxStale)
+            .executor(Runnable::run)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, CACHE_NAME);
+        served = Counter.builder("audition.upstream.stale")
+            .description("Reads answered with a last known good value because the upstream failed")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Stores a freshly fetched value.
+     *
+     * @param operation the read, typically the cache name
+     * @param key       the read's key
+     * @param value     the fetched value
+     * @return {@code value}
+     */
+    public <T> T remember(final String operation, final Object key, final T value) {
+        return remember(operation, key, value, null);
+    }
+
+    /**
+     * Stores a freshly fetched value with the upstream's validator for it.
+     *
+     * @param operation the read, typically the cache name
+     * @param key       the read's key
+     * @param value     the fetched value
+     * @param eTag      the upstream {@code ETag}, may be {@code null}
+     * @return {@code value}
+     */
+    public <T> T remember(final String operation, final Object key, final T value, final String eTag) {
+        if (enabled && value != null) {
+            entries.put(new Key(operation, key), new Entry(value, Instant.now(), eTag));
+        }
+        return value;
+    }
+
+    /**
+     * Returns the upstream {@code ETag} of the stored value, to revalidate it with {@code If-None-Match}.
+     *
+     * @param operation the read, typically the cache name
+     * @param key       the read's key
+     * @return the validator, or {@code null} if there is none
+     */
+    public String eTag(final String operation, final Object key) {
+        final Entry entry = entries.getIfPresent(new Key(operation, key));
+        return entry == null ? null : entry.eTag();
+    }
+
+    /**
+     * Marks the stored value as fresh again after the upstream answered {@code 304 Not Modified}.
+     *
+     * @param operation the read, typically the cache name
+     * @param key       the read's key
+     * @return the stored value, or {@code null} if it has been evicted in the meantime
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T revalidated(final String operation, final Object key) {
+        final Entry entry = entries.asMap().computeIfPresent(new Key(operation, key),
+            (k, stored) -> new Entry(stored.value(), Instant.now(), stored.eTag()));
+        return entry == null ? null : (T) entry.value();
+    }
+
+    /**
+     * Returns the last known good value for a read that failed because of the upstream, or rethrows the failure.
+     *
+     * @param operation the read, typically the cache name
+     * @param key       the read's key
+     * @param failure   why the read failed
+     * @return the stale value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T staleOrThrow(final String operation, final Object key, final RuntimeException failure) {
+        final Entry entry = lookup(operation, key, failure);
+        if (entry == null) {
+            throw failure;
+        }
+        StaleReads.record(entry.age());
+        return (T) entry.value();
+    }
+
+    /**
+     * Reactive variant of {@link #staleOrThrow}. Staleness is recorded against the request found in the subscriber
+     * context.
+     *
+     * @param operation the read, typically the cache name
+     * @param key       the read's key
+     * @param failure   why the read failed
+     * @return the stale value, or the failure
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> staleOrError(final String operation, final Object key, final Throwable failure) {
+        final Entry entry = lookup(operation, key, failure);
+        if (entry == null) {
+            return Mono.error(failure);
+        }
+        return Mono.deferContextual(context -> {
+            StaleReads.record(context.<StaleReads>getOrDefault(StaleReads.CONTEXT_KEY, null), entry.age());
+            return Mono.just((T) entry.value());
+        });
+    }
+
+    private Entry lookup(final String operation, final Object key, final Throwable failure) {
+        if (!isUpstreamFailure(failure)) {
+            return null;
+        }
+        final Entry entry = entries.getIfPresent(new Key(operation, key));
+        if (entry != null) {
+            served.increment();
+            LOGGER.warn("Serving stale {} for key {} fetched {} ago: {}", operation, key, entry.age(),
+                failure.getMessage());
+        }
+        return entry;
+    }
+
+    static boolean isUpstreamFailure(final Throwable failure) {
+        final Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+            ? failure.getCause() : failure;
+        if (cause instanceof SystemException systemException) {
+            return systemException.getStatusCode() != null && systemException.getStatusCode() >= 500;
+        }
+        return UPSTREAM_FAILURE.test(cause);
+    }
+
+    private record Key(String operation, Object key) {
+
+    }
+
+    private record Entry(Object value, Instant storedAt, String eTag) {
+
+        Duration age() {
+            return Duration.between(storedAt, Instant.now());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.audition.integration;
+
+import com.audition.common.exception.SystemException;
+import com.audition.model.AuditionComment;
+import com.audition.model.AuditionCommentFilterDto;
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostFilterDto;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking access to the upstream posts and comments API. Errors are signalled with the same
+ * {@link SystemException} semantics as {@link AuditionIntegrationClient}.
+ */
+public interface ReactiveAuditionIntegrationClient {
+
+    /**
+     * Retrieves audition posts based on the provided filter criteria.
+     *
+     * @param auditionPostFilterDto the filter criteria for retrieving audition posts
+     * @return the audition posts matching the filter criteria
+     */
+    Flux<AuditionPost> getPosts(AuditionPostFilterDto auditionPostFilterDto);
+
+    /**
+     * Retrieves a specific audition post by its ID.
+     *
+     * @param id the ID of the audition post to retrieve
+     * @return the audition post with the specified ID, or an error if it is not found
+     */
+    Mono<AuditionPost> getPostById(String id);
+
+    /**
+     * Retrieves several audition posts by their IDs, fetching the ones not cached with multi-value {@code ?id=}
+     * queries.
+     *
+     * @param ids the IDs of the audition posts to retrieve
+     * @return the posts found, keyed by ID; IDs that do not exist upstream are absent
+     */
+    Mono<Map<String, AuditionPost>> getPostsByIds(Collection<String> ids);
+
+    /**
+     * Retrieves audition post comments for a specific post ID.
+     *
+     * @param postId the ID of the audition post for which to retrieve comments
+     * @return the comments for the specified audition post
+     */
+    Flux<AuditionComment> getPostComments(String postId);
+
+    /**
+     * Retrieves the comments of several audition posts, fetching the ones not cached with multi-value
+     * {@code ?postId=} queries.
+     *
+     * @param postIds the IDs of the audition posts whose comments to retrieve
+     * @return the comments keyed by post ID, an empty list for posts without comments
+     */
+    Mono<Map<String, List<AuditionComment>>> getCommentsByPostIds(Collection<String> postIds);
+
+    /**
+     * Retrieves audition comments based on the provided filter criteria.
+     *
+     * @param auditionCommentFilterDto the filter criteria for retrieving audition comments
+     * @return the audition comments matching the filter criteria
+     */
+    Flux<AuditionComment> getComments(AuditionCommentFilterDto auditionCommentFilterDto);
+
+    /**
+     * Retrieves every audition post from the upstream, bypassing the caches and the last known good store.
+     *
+     * @return all audition posts
+     */
+    Flux<AuditionPost> getAllPostsUncached();
+
+    /**
+     * Retrieves every audition comment from the upstream, bypassing the caches and the last known good store.
+     *
+     * @return all audition comments
+     */
+    Flux<AuditionComment> getAllCommentsUncached();
+}
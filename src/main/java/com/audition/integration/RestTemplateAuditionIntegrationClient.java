@@ -0,0 +1,412 @@
+package com.audition.integration;
+
+import com.audition.common.cache.AuditionCacheFactory;
+import com.audition.common.exception.SystemException;
+import com.audition.configuration.ExecutorConfiguration;
+import com.audition.model.AuditionComment;
+import com.audition.model.AuditionCommentFilterDto;
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostFilterDto;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import jakarta.annotation.PostConstruct;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+@Component
+@ConditionalOnProperty(name = AuditionIntegrationClient.CLIENT_TYPE_PROPERTY, havingValue = "rest-template",
+    matchIfMissing = true)
+public class RestTemplateAuditionIntegrationClient implements AuditionIntegrationClient {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RestTemplateAuditionIntegrationClient.class);
+    private static final ParameterizedTypeReference<AuditionPost> POST = new ParameterizedTypeReference<>() {
+    };
+    private static final ParameterizedTypeReference<List<AuditionPost>> POST_LIST =
+        new ParameterizedTypeReference<>() {
+        };
+    private static final ParameterizedTypeReference<List<AuditionComment>> COMMENT_LIST =
+        new ParameterizedTypeReference<>() {
+        };
+
+    @Value("${postClient.baseUrl}")
+    private transient String postUrl;
+
+    @Value("${commentClient.baseUrl}")
+    private transient String commentsUrl;
+
+    @Autowired
+    @Qualifier("postRestTemplate")
+    private transient RestTemplate postRestTemplate;
+
+    @Autowired
+    @Qualifier("commentRestTemplate")
+    private transient RestTemplate commentRestTemplate;
+
+    @Autowired
+    private transient AuditionCacheFactory cacheFactory;
+
+    @Autowired
+    private transient SingleFlight singleFlight;
+
+    @Autowired
+    private transient UpstreamResilience resilience;
+
+    @Autowired
+    private transient LastKnownGoodStore lastKnownGood;
+
+    @Autowired
+    @Qualifier(ExecutorConfiguration.UPSTREAM_EXECUTOR)
+    private transient Executor upstreamExecutor;
+
+    @Value("${upstreamBatch.maxIdsPerRequest:25}")
+    private transient int maxIdsPerRequest;
+
+    @Value("${upstreamBatch.maxConcurrentRequests:4}")
+    private transient int maxConcurrentRequests;
+
+    private transient LoadingCache<String, AuditionPost> postCache;
+    private transient LoadingCache<AuditionPostFilterDto, List<AuditionPost>> postsCache;
+    private transient LoadingCache<String, List<AuditionComment>> postCommentsCache;
+    private transient LoadingCache<AuditionCommentFilterDto, List<AuditionComment>> commentsCache;
+
+    @PostConstruct
+    void initCaches() {
+        postCache = cacheFactory.build(POST_CACHE, POST.getType(), new CacheLoader<String, AuditionPost>() {
+            @Override
+            public AuditionPost load(final String id) {
+                return fetchPostById(id);
+            }
+
+            @Override
+            public Map<String, AuditionPost> loadAll(final Set<? extends String> ids) {
+                return fetchPostsByIds(ids);
+            }
+        });
+        postsCache = cacheFactory.build(POSTS_CACHE, POST_LIST.getType(), this::fetchPosts);
+        postCommentsCache = cacheFactory.build(POST_COMMENTS_CACHE, COMMENT_LIST.getType(),
+            new CacheLoader<String, List<AuditionComment>>() {
+                @Override
+                public List<AuditionComment> load(final String postId) {
+                    return fetchPostComments(postId);
+                }
+
+                @Override
+                public Map<String, List<AuditionComment>> loadAll(final Set<? extends String> postIds) {
+                    return fetchCommentsByPostIds(postIds);
+                }
+            });
+        commentsCache = cacheFactory.build(COMMENTS_CACHE, COMMENT_LIST.getType(), this::fetchComments);
+    }
+
+    @Override
+    public List<AuditionPost> getPosts(AuditionPostFilterDto auditionPostFilterDto) {
+        AuditionPostFilterDto filter = auditionPostFilterDto.normalized();
+        try {
+            return postsCache.get(filter);
+        } catch (RuntimeException e) {
+            return lastKnownGood.staleOrThrow(POSTS_CACHE, filter, e);
+        }
+    }
+
+    @Override
+    public AuditionPost getPostById(String id) {
+        String key = id.trim();
+        try {
+            return postCache.get(key);
+        } catch (RuntimeException e) {
+            return lastKnownGood.staleOrThrow(POST_CACHE, key, e);
+        }
+    }
+
+    /**
+     * Misses are loaded in one bulk call. When it fails because of the upstream, each missing post falls back to its
+     * last known good value.
+     */
+    @Override
+    public Map<String, AuditionPost> getPostsByIds(Collection<String> ids) {
+        return getAll(postCache, POST_CACHE, ids);
+    }
+
+    @Override
+    public List<AuditionComment> getPostComments(String postId) {
+        String key = postId.trim();
+        try {
+            return postCommentsCache.get(key);
+        } catch (RuntimeException e) {
+            return lastKnownGood.staleOrThrow(POST_COMMENTS_CACHE, key, e);
+        }
+    }
+
+    /**
+     * Misses are loaded in one bulk call. When it fails because of the upstream, each missing post falls back to the
+     * last known good value of its comments.
+     */
+    @Override
+    public Map<String, List<AuditionComment>> getCommentsByPostIds(Collection<String> postIds) {
+        return getAll(postCommentsCache, POST_COMMENTS_CACHE, postIds);
+    }
+
+    @Override
+    public List<AuditionComment> getComments(AuditionCommentFilterDto auditionCommentFilterDto) {
+        AuditionCommentFilterDto filter = auditionCommentFilterDto.normalized();
+        try {
+            return commentsCache.get(filter);
+        } catch (RuntimeException e) {
+            return lastKnownGood.staleOrThrow(COMMENTS_CACHE, filter, e);
+        }
+    }
+
+    @Override
+    public List<AuditionPost> getAllPostsUncached() {
+        try {
+            URI uri = UpstreamUris.posts(postUrl, new AuditionPostFilterDto(null, null, null));
+
+            List<AuditionPost> posts = resilience.call(UpstreamResilience.GET_POSTS,
+                () -> postRestTemplate.exchange(uri, HttpMethod.GET, null, POST_LIST).getBody());
+            return posts == null ? List.of() : posts;
+        } catch (HttpClientErrorException e) {
+            throw new SystemException("Error retrieving posts: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public List<AuditionComment> getAllCommentsUncached() {
+        try {
+            URI uri = UpstreamUris.comments(commentsUrl, new AuditionCommentFilterDto(null, null, null, null));
+
+            List<AuditionComment> comments = resilience.call(UpstreamResilience.GET_COMMENTS,
+                () -> commentRestTemplate.exchange(uri, HttpMethod.GET, null, COMMENT_LIST).getBody());
+            return comments == null ? List.of() : comments;
+        } catch (HttpClientErrorException e) {
+            throw new SystemException("Error retrieving comments: " + e.getMessage());
+        }
+    }
+
+    private List<AuditionPost> fetchPosts(AuditionPostFilterDto auditionPostFilterDto) {
+        try {
+            URI uri = UpstreamUris.posts(postUrl, auditionPostFilterDto);
+
+            return singleFlight.execute(uri, () -> resilience.call(UpstreamResilience.GET_POSTS,
+                () -> conditionalGet(postRestTemplate, uri, POSTS_CACHE, auditionPostFilterDto, POST_LIST,
+                    RestTemplateAuditionIntegrationClient::immutable)));
+        } catch (HttpClientErrorException e) {
+            LOGGER.error("Error retrieving posts", e);
+            throw new SystemException("Error retrieving posts: " + e.getMessage());
+        }
+    }
+
+    private AuditionPost fetchPostById(String id) {
+        try {
+            URI uri = UpstreamUris.post(postUrl, id);
+
+            return singleFlight.execute(uri, () -> resilience.call(UpstreamResilience.GET_POST_BY_ID,
+                () -> conditionalGet(postRestTemplate, uri, POST_CACHE, id, POST, UnaryOperator.identity())));
+        } catch (final HttpClientErrorException e) {
+            if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
+                throw new SystemException("Cannot find a Post with id " + id, "Resource Not Found", 404);
+            } else {
+                throw new SystemException("Error retrieving posts: " + e.getMessage());
+            }
+        }
+    }
+
+    private Map<String, AuditionPost> fetchPostsByIds(Set<? extends String> ids) {
+        return fetchInBatches(ids, this::fetchPostBatch);
+    }
+
+    private Map<String, List<AuditionComment>> fetchCommentsByPostIds(Set<? extends String> postIds) {
+        return fetchInBatches(postIds, this::fetchCommentBatch);
+    }
+
+    /**
+     * Fetches by id with multi-value queries of at most {@code upstreamBatch.maxIdsPerRequest} ids. The queries are
+     * spread over at most {@code upstreamBatch.maxConcurrentRequests} lanes on {@code upstreamExecutor}, each running
+     * its share one after another, so a large batch cannot take over the connection pool.
+     */
+    private <V> Map<String, V> fetchInBatches(Set<? extends String> ids,
+        Function<List<String>, Map<String, V>> fetchBatch) {
+        List<List<String>> batches = partition(ids, maxIdsPerRequest);
+        if (batches.size() == 1) {
+            return fetchBatch.apply(batches.get(0));
+        }
+        Map<String, V> values = new ConcurrentHashMap<>();
+        int lanes = Math.min(maxConcurrentRequests, batches.size());
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[lanes];
+        try {
+            for (int lane = 0; lane < lanes; lane++) {
+                int first = lane;
+                futures[lane] = CompletableFuture.runAsync(() -> {
+                    for (int i = first; i < batches.size(); i += lanes) {
+                        values.putAll(fetchBatch.apply(batches.get(i)));
+                    }
+                }, upstreamExecutor);
+            }
+            CompletableFuture.allOf(futures).join();
+        } catch (RejectedExecutionException e) {
+            throw new SystemException("Too many concurrent requests, please retry", 503, e);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return values;
+    }
+
+    private Map<String, AuditionPost> fetchPostBatch(List<String> ids) {
+        try {
+            URI uri = UpstreamUris.postsByIds(postUrl, ids);
+
+            List<AuditionPost> posts = singleFlight.execute(uri, () -> resilience.call(UpstreamResilience.GET_POSTS,
+                () -> postRestTemplate.exchange(uri, HttpMethod.GET, null, POST_LIST).getBody()));
+            Map<String, AuditionPost> byId = new HashMap<>();
+            if (posts != null) {
+                for (AuditionPost post : posts) {
+                    String id = String.valueOf(post.getId());
+                    byId.put(id, lastKnownGood.remember(POST_CACHE, id, post));
+                }
+            }
+            return byId;
+        } catch (HttpClientErrorException e) {
+            LOGGER.error("Error retrieving posts", e);
+            throw new SystemException("Error retrieving posts: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Posts without comments get an empty list, so that they are cached like any other post.
+     */
+    private Map<String, List<AuditionComment>> fetchCommentBatch(List<String> postIds) {
+        try {
+            URI uri = UpstreamUris.commentsByPostIds(commentsUrl, postIds);
+
+            List<AuditionComment> comments = singleFlight.execute(uri, () -> resilience.call(
+                UpstreamResilience.GET_COMMENTS,
+                () -> commentRestTemplate.exchange(uri, HttpMethod.GET, null, COMMENT_LIST).getBody()));
+            Map<String, List<AuditionComment>> byPostId = (comments == null ? List.<AuditionComment>of() : comments)
+                .stream()
+                .collect(Collectors.groupingBy(comment -> String.valueOf(comment.getPostId())));
+            Map<String, List<AuditionComment>> result = new HashMap<>();
+            for (String postId : postIds) {
+                result.put(postId, lastKnownGood.remember(POST_COMMENTS_CACHE, postId,
+                    immutable(byPostId.get(postId))));
+            }
+            return result;
+        } catch (HttpClientErrorException e) {
+            throw new SystemException("Error retrieving comments: " + e.getMessage());
+        }
+    }
+
+    private List<AuditionComment> fetchPostComments(String postId) {
+        try {
+            URI uri = UpstreamUris.postComments(postUrl, postId);
+
+            return singleFlight.execute(uri, () -> resilience.call(UpstreamResilience.GET_POST_COMMENTS,
+                () -> conditionalGet(postRestTemplate, uri, POST_COMMENTS_CACHE, postId, COMMENT_LIST,
+                    RestTemplateAuditionIntegrationClient::immutable)));
+        } catch (HttpClientErrorException e) {
+            throw new SystemException("Error retrieving post comments: " + e.getMessage());
+        }
+    }
+
+    private List<AuditionComment> fetchComments(AuditionCommentFilterDto auditionCommentFilterDto) {
+        try {
+            URI uri = UpstreamUris.comments(commentsUrl, auditionCommentFilterDto);
+            return singleFlight.execute(uri, () -> resilience.call(UpstreamResilience.GET_COMMENTS,
+                () -> conditionalGet(commentRestTemplate, uri, COMMENTS_CACHE, auditionCommentFilterDto, COMMENT_LIST,
+                    RestTemplateAuditionIntegrationClient::immutable)));
+        } catch (HttpClientErrorException e) {
+            throw new SystemException("Error retrieving comments: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Revalidates the last known good value with the upstream's own {@code ETag}. An unchanged resource comes back as
+     * an empty {@code 304}, and the stored value is reused without transferring or parsing the body again.
+     */
+    private <T> T conditionalGet(final RestTemplate restTemplate, final URI uri, final String cacheName,
+        final Object key, final ParameterizedTypeReference<T> type, final UnaryOperator<T> copy) {
+        HttpHeaders headers = new HttpHeaders();
+        String eTag = lastKnownGood.eTag(cacheName, key);
+        if (eTag != null) {
+            headers.setIfNoneMatch(eTag);
+        }
+        ResponseEntity<T> response = restTemplate.exchange(uri, HttpMethod.GET, new HttpEntity<>(headers), type);
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            T unchanged = lastKnownGood.revalidated(cacheName, key);
+            if (unchanged != null) {
+                return unchanged;
+            }
+            response = restTemplate.exchange(uri, HttpMethod.GET, null, type);
+        }
+        return lastKnownGood.remember(cacheName, key, copy.apply(response.getBody()), response.getHeaders().getETag());
+    }
+
+    private <V> Map<String, V> getAll(final LoadingCache<String, V> cache, final String cacheName,
+        final Collection<String> ids) {
+        List<String> keys = ids.stream().map(String::trim).distinct().toList();
+        try {
+            return cache.getAll(keys);
+        } catch (RuntimeException e) {
+            Map<String, V> values = new LinkedHashMap<>(cache.getAllPresent(keys));
+            for (String key : keys) {
+                if (!values.containsKey(key)) {
+                    values.put(key, lastKnownGood.staleOrThrow(cacheName, key, e));
+                }
+            }
+            return values;
+        }
+    }
+
+    private static List<List<String>> partition(final Collection<? extends String> ids, final int size) {
+        List<List<String>> batches = new ArrayList<>();
+        List<String> batch = new ArrayList<>(size);
+        for (String id : ids) {
+            batch.add(id);
+            if (batch.size() == size) {
+                batches.add(batch);
+                batch = new ArrayList<>(size);
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    /**
+     * Cached lists are shared between callers, so they are stored read-only.
+     */
+    private static <T> List<T> immutable(final List<T> list) {
+        return list == null ? List.of() : List.copyOf(list);
+    }
+}
@@ -0,0 +1,115 @@
+package com.audition.integration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Deduplicates identical concurrent upstream calls.
+ *
+ * <p>
+ * The first caller for a key issues the call; callers arriving while it is in flight wait for and share its result
+ * or failure. The entry is removed as soon as the call completes, successfully or not, so nothing is cached and
+ * nothing leaks. Registration is a single {@link ConcurrentMap#putIfAbsent} on a {@link ConcurrentHashMap}, which
+ * only locks the hash bin of the key.
+ * </p>
+ *
+ * <p>
+ * Issued and coalesced calls are counted in {@code audition.upstream.calls} with a {@code result} tag.
+ * </p>
+ */
+public class SingleFlight {
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Counter issued;
+    private final Counter coalesced;
+
+    public SingleFlight(final MeterRegistry meterRegistry) {
+        this.issued = Counter.builder("audition.upstream.calls").tag("result", "issued")
+            .description("Upstream calls actually sent").register(meterRegistry);
+        this.coalesced = Counter.builder("audition.upstream.calls").tag("result", "coalesced")
+            .description("Upstream calls served by joining an identical in-flight call").register(meterRegistry);
+    }
+
+    /**
+     * Runs a blocking call, or joins the identical call already in flight.
+     *
+     * @param key  identifies identical calls, typically the upstream URI
+     * @param call the upstream call
+     * @return the result of the call
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(final Object key, final Supplier<T> call) {
+        final CompletableFuture<Object> mine = new CompletableFuture<>();
+        final CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            return (T) join(existing);
+        }
+        issued.increment();
+        try {
+            final T result = call.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * Starts an asynchronous call, or returns the identical call already in flight.
+     *
+     * @param key  identifies identical calls, typically the upstream URI
+     * @param call starts the upstream call
+     * @return a future completed with the result of the call
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> executeAsync(final Object key, final Supplier<CompletableFuture<T>> call) {
+        final CompletableFuture<Object> mine = new CompletableFuture<>();
+        final CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            return (CompletableFuture<T>) existing.thenApply(result -> result);
+        }
+        issued.increment();
+        try {
+            call.get().whenComplete((result, error) -> {
+                inFlight.remove(key, mine);
+                if (error == null) {
+                    mine.complete(result);
+                } else {
+                    mine.completeExceptionally(error);
+                }
+            });
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, mine);
+            mine.completeExceptionally(e);
+        }
+        return (CompletableFuture<T>) mine.thenApply(result -> result);
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static Object join(final CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.audition.integration;
+
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * Decides whether an upstream error says something about the health of the upstream.
+ *
+ * <p>
+ * Only I/O errors, timeouts and 5xx responses count. A 4xx response, such as a 404 for an unknown post, is a valid
+ * answer from a healthy upstream: it must not open a circuit breaker and retrying it cannot succeed. Referenced by
+ * class name from the {@code resilience4j} section of {@code application.yml}.
+ * </p>
+ */
+public class UpstreamFailurePredicate implements Predicate<Throwable> {
+
+    @Override
+    public boolean test(final Throwable throwable) {
+        if (throwable instanceof RestClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError();
+        }
+        if (throwable instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError();
+        }
+        return throwable instanceof ResourceAccessException
+            || throwable instanceof WebClientRequestException
+            || throwable instanceof TimeoutException;
+    }
+}
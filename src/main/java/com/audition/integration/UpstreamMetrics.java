@@ -0,0 +1,328 @@
+package com.audition.integration;
+
+import com.audition.common.exception.SystemException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Records every upstream attempt per operation, tagged with low-cardinality values only: the operation, the outcome
+ * and the status class. URIs and ids are never used as tags.
+ *
+ * <ul>
+ *     <li>{@code audition.upstream.requests}: timer with a percentile histogram, tagged {@code operation},
+ *     {@code outcome} and {@code status}</li>
+ *     <li>{@code audition.upstream.response.size}: decoded response body bytes, tagged {@code operation}</li>
+ *     <li>{@code audition.upstream.response.elements}: posts or comments returned by a successful attempt, tagged
+ *     {@code operation}</li>
+ * </ul>
+ *
+ * <p>
+ * {@link UpstreamResilience} times each retry attempt separately. Calls rejected by an open circuit or a full bulkhead
+ * never reach the upstream and are only counted under {@code resilience4j.*}. The status and body size are taken from
+ * the HTTP exchange by {@link #interceptor()} on the {@code RestTemplate}s and {@link #filter()} on the
+ * {@code WebClient}s. The meters are registered once per tag combination and then reused, so recording an attempt
+ * does not build a meter id.
+ * </p>
+ */
+@Component
+public class UpstreamMetrics {
+
+    static final String REQUESTS = "audition.upstream.requests";
+    static final String RESPONSE_SIZE = "audition.upstream.response.size";
+    static final String RESPONSE_ELEMENTS = "audition.upstream.response.elements";
+
+    private static final String OPERATION = "operation";
+    private static final String NO_STATUS = "none";
+    private static final String[] STATUS_CLASSES = {NO_STATUS, "1xx", "2xx", "3xx", "4xx", "5xx"};
+    private static final Duration MINIMUM_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAXIMUM_EXPECTED = Duration.ofSeconds(30);
+    private static final ThreadLocal<Attempt> CURRENT = new ThreadLocal<>();
+
+    @Autowired
+    private transient MeterRegistry meterRegistry;
+
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> responseSizes = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> responseElements = new ConcurrentHashMap<>();
+
+    /**
+     * Wraps a blocking upstream attempt. The HTTP exchange must run on the calling thread.
+     *
+     * @param operation the operation, see {@link UpstreamResilience}
+     * @param call      the attempt
+     * @return the timed attempt
+     */
+    public <T> Supplier<T> timed(final String operation, final Supplier<T> call) {
+        return () -> {
+            final Attempt attempt = new Attempt(operation);
+            final Attempt enclosing = CURRENT.get();
+            CURRENT.set(attempt);
+            try {
+                final T result = call.get();
+                record(attempt, Outcome.SUCCESS, result, null);
+                return result;
+            } catch (RuntimeException e) {
+                record(attempt, outcome(e), null, e);
+                throw e;
+            } finally {
+                if (enclosing == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(enclosing);
+                }
+            }
+        };
+    }
+
+    /**
+     * Wraps a non-blocking upstream attempt. Each subscription, and so each retry, is recorded on its own.
+     *
+     * @param operation the operation, see {@link UpstreamResilience}
+     * @param call      the attempt
+     * @return the timed attempt
+     */
+    public <T> Mono<T> timed(final String operation, final Mono<T> call) {
+        return Mono.defer(() -> {
+            final Attempt attempt = new Attempt(operation);
+            return call
+                .doOnSuccess(result -> record(attempt, Outcome.SUCCESS, result, null))
+                .doOnError(e -> record(attempt, outcome(e), null, e))
+                .doOnCancel(() -> record(attempt, Outcome.CANCELLED, null, null))
+                .contextWrite(Context.of(Attempt.class, attempt));
+        });
+    }
+
+    /**
+     * Takes the status and body size of blocking attempts from their {@code RestTemplate} exchanges.
+     *
+     * @return the interceptor
+     */
+    public ClientHttpRequestInterceptor interceptor() {
+        return (request, body, execution) -> {
+            final ClientHttpResponse response = execution.execute(request, body);
+            final Attempt attempt = CURRENT.get();
+            if (attempt == null) {
+                return response;
+            }
+            attempt.status = response.getStatusCode().value();
+            return new CountingClientHttpResponse(response, attempt);
+        };
+    }
+
+    /**
+     * Takes the status and body size of non-blocking attempts from their {@code WebClient} exchanges.
+     *
+     * @return the filter
+     */
+    public ExchangeFilterFunction filter() {
+        return (request, next) -> Mono.deferContextual(context -> {
+            final Attempt attempt = context.getOrDefault(Attempt.class, null);
+            if (attempt == null) {
+                return next.exchange(request);
+            }
+            return next.exchange(request).map(response -> {
+                attempt.status = response.statusCode().value();
+                return response.mutate()
+                    .body(body -> body.doOnNext(buffer -> attempt.bytes.addAndGet(buffer.readableByteCount())))
+                    .build();
+            });
+        });
+    }
+
+    private void record(final Attempt attempt, final Outcome outcome, final Object result, final Throwable error) {
+        if (!attempt.finished.compareAndSet(false, true)) {
+            return;
+        }
+        final TimerKey key = new TimerKey(attempt.operation, outcome,
+            statusClass(attempt.status >= 0 ? attempt.status : statusOf(error)));
+        timers.computeIfAbsent(key, this::timer).record(System.nanoTime() - attempt.start, TimeUnit.NANOSECONDS);
+        if (attempt.status >= 0) {
+            responseSizes.computeIfAbsent(attempt.operation, operation -> summary(RESPONSE_SIZE,
+                "Decoded upstream response body size", BaseUnits.BYTES, operation)).record(attempt.bytes.get());
+        }
+        if (outcome == Outcome.SUCCESS) {
+            responseElements.computeIfAbsent(attempt.operation, operation -> summary(RESPONSE_ELEMENTS,
+                "Posts or comments returned by the upstream", "elements", operation)).record(elements(result));
+        }
+    }
+
+    private Timer timer(final TimerKey key) {
+        return Timer.builder(REQUESTS)
+            .description("Upstream HTTP attempts by operation, outcome and status class")
+            .tag(OPERATION, key.operation())
+            .tag("outcome", key.outcome().name())
+            .tag("status", key.status())
+            .publishPercentileHistogram()
+            .minimumExpectedValue(MINIMUM_EXPECTED)
+            .maximumExpectedValue(MAXIMUM_EXPECTED)
+            .register(meterRegistry);
+    }
+
+    private DistributionSummary summary(final String name, final String description, final String baseUnit,
+        final String operation) {
+        return DistributionSummary.builder(name)
+            .description(description)
+            .baseUnit(baseUnit)
+            .tag(OPERATION, operation)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    static Outcome outcome(final Throwable error) {
+        final int status = statusOf(error);
+        if (status >= 500) {
+            return Outcome.SERVER_ERROR;
+        }
+        if (status >= 400) {
+            return Outcome.CLIENT_ERROR;
+        }
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            // SocketTimeoutException and the HTTP client connect timeouts are InterruptedIOExceptions
+            if (cause instanceof InterruptedIOException || cause instanceof TimeoutException
+                || cause instanceof io.netty.handler.timeout.TimeoutException) {
+                return Outcome.TIMEOUT;
+            }
+            if (cause instanceof IOException) {
+                return Outcome.IO_ERROR;
+            }
+        }
+        return Outcome.UNKNOWN;
+    }
+
+    private static int statusOf(final Throwable error) {
+        if (error instanceof RestClientResponseException responseException) {
+            return responseException.getStatusCode().value();
+        }
+        if (error instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().value();
+        }
+        if (error instanceof SystemException systemException && systemException.getStatusCode() != null) {
+            return systemException.getStatusCode();
+        }
+        return -1;
+    }
+
+    private static String statusClass(final int status) {
+        if (status < 100) {
+            return NO_STATUS;
+        }
+        return status / 100 < STATUS_CLASSES.length ? STATUS_CLASSES[status / 100] : status / 100 + "xx";
+    }
+
+    private static int elements(final Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        return result == null ? 0 : 1;
+    }
+
+    enum Outcome {
+        SUCCESS, CLIENT_ERROR, SERVER_ERROR, TIMEOUT, IO_ERROR, CANCELLED, UNKNOWN
+    }
+
+    private record TimerKey(String operation, Outcome outcome, String status) {
+    }
+
+    private static final class Attempt {
+
+        private final String operation;
+        private final long start = System.nanoTime();
+        private final AtomicLong bytes = new AtomicLong();
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private volatile int status = -1;
+
+        Attempt(final String operation) {
+            this.operation = operation;
+        }
+    }
+
+    /**
+     * Counts the body bytes as the message converter reads them, so the body is still streamed rather than buffered.
+     */
+    private static final class CountingClientHttpResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final Attempt attempt;
+        private InputStream body;
+
+        CountingClientHttpResponse(final ClientHttpResponse delegate, final Attempt attempt) {
+            this.delegate = delegate;
+            this.attempt = attempt;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                body = new FilterInputStream(delegate.getBody()) {
+                    @Override
+                    public int read() throws IOException {
+                        final int read = super.read();
+                        if (read >= 0) {
+                            attempt.bytes.incrementAndGet();
+                        }
+                        return read;
+                    }
+
+                    @Override
+                    public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+                        final int read = super.read(buffer, offset, length);
+                        if (read > 0) {
+                            attempt.bytes.addAndGet(read);
+                        }
+                        return read;
+                    }
+                };
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.audition.integration;
+
+import com.audition.common.exception.SystemException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.decorators.Decorators;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.reactor.timelimiter.TimeLimiterOperator;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Wraps upstream calls in the Resilience4j circuit breaker, bulkhead, time limiter and retry configured for the
+ * operation under {@code resilience4j} in {@code application.yml}.
+ *
+ * <p>
+ * Calls rejected because a circuit is open or a bulkhead is full fail with a 503 {@link SystemException}, and calls
+ * cut off by the time limiter fail with a 504, without holding a request thread. Metrics for every instance are
+ * exported under {@code resilience4j.*}, and every attempt that reaches the upstream is recorded by
+ * {@link UpstreamMetrics}.
+ * </p>
+ *
+ * <p>
+ * A failed attempt is only retried while {@code upstreamRetry.budget} has not passed since the call started. Loads run
+ * inside the cache loaders, where other requests for the same key wait on them, so the retries must end well before
+ * the callers give up, such as after {@code postComments.timeout}, rather than after every configured attempt.
+ * </p>
+ */
+@Component
+public class UpstreamResilience {
+
+    public static final String GET_POSTS = "getPosts";
+    public static final String GET_POST_BY_ID = "getPostById";
+    public static final String GET_POST_COMMENTS = "getPostComments";
+    public static final String GET_COMMENTS = "getComments";
+
+    private static final String UNAVAILABLE_TITLE = "Service Unavailable";
+
+    @Autowired
+    private transient CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Autowired
+    private transient BulkheadRegistry bulkheadRegistry;
+
+    @Autowired
+    private transient RetryRegistry retryRegistry;
+
+    @Autowired
+    private transient TimeLimiterRegistry timeLimiterRegistry;
+
+    @Autowired
+    private transient UpstreamMetrics metrics;
+
+    @Value("${upstreamRetry.budget:2s}")
+    private transient Duration retryBudget;
+
+    /**
+     * Runs a blocking upstream call. The time limit is enforced by the HTTP client's connect and response timeouts,
+     * which also release the connection, rather than by handing the call to another thread.
+     *
+     * @param operation the operation, naming the Resilience4j instances to use
+     * @param call      the upstream call
+     * @return the result of the call
+     */
+    public <T> T call(final String operation, final Supplier<T> call) {
+        final long deadline = System.nanoTime() + retryBudget.toNanos();
+        final Supplier<T> attempt = Decorators.ofSupplier(metrics.timed(operation, call))
+            .withBulkhead(bulkheadRegistry.bulkhead(operation))
+            .withCircuitBreaker(circuitBreakerRegistry.circuitBreaker(operation))
+            .decorate();
+        try {
+            return Retry.decorateSupplier(retryRegistry.retry(operation), () -> {
+                try {
+                    return attempt.get();
+                } catch (RuntimeException e) {
+                    throw spent(deadline) ? new RetryBudgetExhausted(e) : e;
+                }
+            }).get();
+        } catch (RetryBudgetExhausted e) {
+            throw translated(operation, (RuntimeException) e.getCause());
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            throw unavailable(operation, e);
+        }
+    }
+
+    /**
+     * Applies the operation's time limiter, bulkhead, circuit breaker and retry, in that order from the inside out, to
+     * a non-blocking upstream call. Attempts are timed outside the time limiter, so a cut-off is recorded as a
+     * timeout rather than as a cancellation.
+     *
+     * @param operation the operation, naming the Resilience4j instances to use
+     * @param call      the upstream call
+     * @return the protected call
+     */
+    public <T> Mono<T> decorate(final String operation, final Mono<T> call) {
+        return Mono.defer(() -> {
+            final long deadline = System.nanoTime() + retryBudget.toNanos();
+            return metrics.timed(operation,
+                    call.transformDeferred(TimeLimiterOperator.of(timeLimiterRegistry.timeLimiter(operation))))
+                .transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead(operation)))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(operation)))
+                .onErrorMap(e -> spent(deadline), RetryBudgetExhausted::new)
+                .transformDeferred(RetryOperator.of(retryRegistry.retry(operation)))
+                .onErrorMap(RetryBudgetExhausted.class, Throwable::getCause);
+        })
+            .onErrorMap(e -> e instanceof CallNotPermittedException || e instanceof BulkheadFullException,
+                e -> unavailable(operation, (RuntimeException) e))
+            .onErrorMap(TimeoutException.class,
+                e -> new SystemException("Timed out calling upstream for " + operation, "Gateway Timeout", 504, e));
+    }
+
+    private static boolean spent(final long deadline) {
+        return System.nanoTime() - deadline >= 0;
+    }
+
+    private static RuntimeException translated(final String operation, final RuntimeException e) {
+        return e instanceof CallNotPermittedException || e instanceof BulkheadFullException ? unavailable(operation, e)
+            : e;
+    }
+
+    private static SystemException unavailable(final String operation, final RuntimeException cause) {
+        return new SystemException("Upstream temporarily unavailable for " + operation + ", please retry",
+            UNAVAILABLE_TITLE, 503, cause);
+    }
+
+    /**
+     * Ends the retries of a call whose budget is spent, carrying the failure of the last attempt. It matches no retry
+     * predicate and never leaves this class.
+     */
+    private static final class RetryBudgetExhausted extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        RetryBudgetExhausted(final Throwable failure) {
+            super(failure.getMessage(), failure, false, false);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.audition.integration;
+
+import com.audition.model.AuditionCommentFilterDto;
+import com.audition.model.AuditionPostFilterDto;
+import java.net.URI;
+import java.util.Collection;
+import java.util.Optional;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Builds upstream URIs shared by the blocking and reactive integration clients.
+ */
+final class UpstreamUris {
+
+    private UpstreamUris() {
+    }
+
+    static URI posts(final String postUrl, final AuditionPostFilterDto auditionPostFilterDto) {
+        return UriComponentsBuilder.fromUriString(postUrl)
+            .queryParamIfPresent("userId", Optional.ofNullable(auditionPostFilterDto.userId()))
+            .queryParamIfPresent("id", Optional.ofNullable(auditionPostFilterDto.id()))
+            .queryParamIfPresent("title", Optional.ofNullable(auditionPostFilterDto.title()))
+            .build().toUri();
+    }
+
+    static URI post(final String postUrl, final String id) {
+        return UriComponentsBuilder.fromUriString(postUrl)
+            .pathSegment(id)
+            .build().toUri();
+    }
+
+    static URI postsByIds(final String postUrl, final Collection<String> ids) {
+        return UriComponentsBuilder.fromUriString(postUrl)
+            .queryParam("id", ids.toArray())
+            .build().toUri();
+    }
+
+    static URI postComments(final String postUrl, final String postId) {
+        return UriComponentsBuilder.fromUriString(postUrl)
+            .pathSegment(postId, "comments")
+            .build().toUri();
+    }
+
+    static URI commentsByPostIds(final String commentsUrl, final Collection<String> postIds) {
+        return UriComponentsBuilder.fromUriString(commentsUrl)
+            .queryParam("postId", postIds.toArray())
+            .build().toUri();
+    }
+
+    static URI comments(final String commentsUrl, final AuditionCommentFilterDto auditionCommentFilterDto) {
+        return UriComponentsBuilder.fromUriString(commentsUrl)
+            .queryParamIfPresent("postId", Optional.ofNullable(auditionCommentFilterDto.postId()))
+            .queryParamIfPresent("id", Optional.ofNullable(auditionCommentFilterDto.id()))
+            .queryParamIfPresent("name", Optional.ofNullable(auditionCommentFilterDto.name()))
+            .queryParamIfPresent("email", Optional.ofNullable(auditionCommentFilterDto.email()))
+            .build().toUri();
+    }
+}
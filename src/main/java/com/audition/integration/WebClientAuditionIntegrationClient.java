@@ -0,0 +1,352 @@
+package com.audition.integration;
+
+import com.audition.common.cache.AuditionCacheFactory;
+import com.audition.common.exception.SystemException;
+import com.audition.model.AuditionComment;
+import com.audition.model.AuditionCommentFilterDto;
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostFilterDto;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import jakarta.annotation.PostConstruct;
+import java.net.URI;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+@ConditionalOnProperty(name = AuditionIntegrationClient.CLIENT_TYPE_PROPERTY, havingValue = "web-client")
+public class WebClientAuditionIntegrationClient implements ReactiveAuditionIntegrationClient {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebClientAuditionIntegrationClient.class);
+    private static final ParameterizedTypeReference<AuditionPost> POST = new ParameterizedTypeReference<>() {
+    };
+    private static final ParameterizedTypeReference<List<AuditionPost>> POST_LIST =
+        new ParameterizedTypeReference<>() {
+        };
+    private static final ParameterizedTypeReference<List<AuditionComment>> COMMENT_LIST =
+        new ParameterizedTypeReference<>() {
+        };
+
+    @Value("${postClient.baseUrl}")
+    private transient String postUrl;
+
+    @Value("${commentClient.baseUrl}")
+    private transient String commentsUrl;
+
+    @Autowired
+    @Qualifier("postWebClient")
+    private transient WebClient postWebClient;
+
+    @Autowired
+    @Qualifier("commentWebClient")
+    private transient WebClient commentWebClient;
+
+    @Autowired
+    private transient AuditionCacheFactory cacheFactory;
+
+    @Autowired
+    private transient SingleFlight singleFlight;
+
+    @Autowired
+    private transient UpstreamResilience resilience;
+
+    @Autowired
+    private transient LastKnownGoodStore lastKnownGood;
+
+    @Value("${upstreamBatch.maxIdsPerRequest:25}")
+    private transient int maxIdsPerRequest;
+
+    @Value("${upstreamBatch.maxConcurrentRequests:4}")
+    private transient int maxConcurrentRequests;
+
+    private transient AsyncLoadingCache<String, AuditionPost> postCache;
+    private transient AsyncLoadingCache<AuditionPostFilterDto, List<AuditionPost>> postsCache;
+    private transient AsyncLoadingCache<String, List<AuditionComment>> postCommentsCache;
+    private transient AsyncLoadingCache<AuditionCommentFilterDto, List<AuditionComment>> commentsCache;
+
+    @PostConstruct
+    void initCaches() {
+        postCache = cacheFactory.buildAsync(AuditionIntegrationClient.POST_CACHE, POST.getType(),
+            new AsyncCacheLoader<String, AuditionPost>() {
+                @Override
+                public CompletableFuture<AuditionPost> asyncLoad(final String id, final Executor executor) {
+                    return fetchPostById(id);
+                }
+
+                @Override
+                public CompletableFuture<Map<String, AuditionPost>> asyncLoadAll(final Set<? extends String> ids,
+                    final Executor executor) {
+                    return fetchPostsByIds(ids);
+                }
+            });
+        postsCache = cacheFactory.buildAsync(AuditionIntegrationClient.POSTS_CACHE, POST_LIST.getType(),
+            (filter, executor) -> fetchPosts(filter));
+        postCommentsCache = cacheFactory.buildAsync(AuditionIntegrationClient.POST_COMMENTS_CACHE,
+            COMMENT_LIST.getType(),
+            new AsyncCacheLoader<String, List<AuditionComment>>() {
+                @Override
+                public CompletableFuture<List<AuditionComment>> asyncLoad(final String postId,
+                    final Executor executor) {
+                    return fetchPostComments(postId);
+                }
+
+                @Override
+                public CompletableFuture<Map<String, List<AuditionComment>>> asyncLoadAll(
+                    final Set<? extends String> postIds, final Executor executor) {
+                    return fetchCommentsByPostIds(postIds);
+                }
+            });
+        commentsCache = cacheFactory.buildAsync(AuditionIntegrationClient.COMMENTS_CACHE, COMMENT_LIST.getType(),
+            (filter, executor) -> fetchComments(filter));
+    }
+
+    @Override
+    public Flux<AuditionPost> getPosts(AuditionPostFilterDto auditionPostFilterDto) {
+        AuditionPostFilterDto filter = auditionPostFilterDto.normalized();
+        return fromCache(postsCache.get(filter))
+            .onErrorResume(e -> lastKnownGood.staleOrError(AuditionIntegrationClient.POSTS_CACHE, filter, e))
+            .flatMapIterable(Function.identity());
+    }
+
+    @Override
+    public Mono<AuditionPost> getPostById(String id) {
+        String key = id.trim();
+        return fromCache(postCache.get(key))
+            .onErrorResume(e -> lastKnownGood.staleOrError(AuditionIntegrationClient.POST_CACHE, key, e));
+    }
+
+    /**
+     * Misses are loaded in one bulk call. When it fails because of the upstream, each missing post falls back to its
+     * last known good value.
+     */
+    @Override
+    public Mono<Map<String, AuditionPost>> getPostsByIds(Collection<String> ids) {
+        return getAll(postCache, AuditionIntegrationClient.POST_CACHE, ids);
+    }
+
+    @Override
+    public Flux<AuditionComment> getPostComments(String postId) {
+        String key = postId.trim();
+        return fromCache(postCommentsCache.get(key))
+            .onErrorResume(e -> lastKnownGood.staleOrError(AuditionIntegrationClient.POST_COMMENTS_CACHE, key, e))
+            .flatMapIterable(Function.identity());
+    }
+
+    /**
+     * Misses are loaded in one bulk call. When it fails because of the upstream, each missing post falls back to the
+     * last known good value of its comments.
+     */
+    @Override
+    public Mono<Map<String, List<AuditionComment>>> getCommentsByPostIds(Collection<String> postIds) {
+        return getAll(postCommentsCache, AuditionIntegrationClient.POST_COMMENTS_CACHE, postIds);
+    }
+
+    @Override
+    public Flux<AuditionComment> getComments(AuditionCommentFilterDto auditionCommentFilterDto) {
+        AuditionCommentFilterDto filter = auditionCommentFilterDto.normalized();
+        return fromCache(commentsCache.get(filter))
+            .onErrorResume(e -> lastKnownGood.staleOrError(AuditionIntegrationClient.COMMENTS_CACHE, filter, e))
+            .flatMapIterable(Function.identity());
+    }
+
+    @Override
+    public Flux<AuditionPost> getAllPostsUncached() {
+        URI uri = UpstreamUris.posts(postUrl, new AuditionPostFilterDto(null, null, null));
+        return Mono.defer(() -> get(postWebClient, uri, POST_LIST, null))
+            .mapNotNull(ResponseEntity::getBody)
+            .transform(call -> resilience.decorate(UpstreamResilience.GET_POSTS, call))
+            .onErrorMap(WebClientAuditionIntegrationClient::isClientError,
+                e -> new SystemException("Error retrieving posts: " + e.getMessage()))
+            .flatMapIterable(Function.identity());
+    }
+
+    @Override
+    public Flux<AuditionComment> getAllCommentsUncached() {
+        URI uri = UpstreamUris.comments(commentsUrl, new AuditionCommentFilterDto(null, null, null, null));
+        return Mono.defer(() -> get(commentWebClient, uri, COMMENT_LIST, null))
+            .mapNotNull(ResponseEntity::getBody)
+            .transform(call -> resilience.decorate(UpstreamResilience.GET_COMMENTS, call))
+            .onErrorMap(WebClientAuditionIntegrationClient::isClientError,
+                e -> new SystemException("Error retrieving comments: " + e.getMessage()))
+            .flatMapIterable(Function.identity());
+    }
+
+    private CompletableFuture<List<AuditionPost>> fetchPosts(AuditionPostFilterDto auditionPostFilterDto) {
+        URI uri = UpstreamUris.posts(postUrl, auditionPostFilterDto);
+        return coalesced(uri, conditionalGet(postWebClient, uri, AuditionIntegrationClient.POSTS_CACHE,
+            auditionPostFilterDto, POST_LIST, List::copyOf)
+            .transform(call -> resilience.decorate(UpstreamResilience.GET_POSTS, call))
+            .onErrorMap(WebClientAuditionIntegrationClient::isClientError, e -> {
+                LOGGER.error("Error retrieving posts", e);
+                return new SystemException("Error retrieving posts: " + e.getMessage());
+            }));
+    }
+
+    private CompletableFuture<AuditionPost> fetchPostById(String id) {
+        URI uri = UpstreamUris.post(postUrl, id);
+        return coalesced(uri, conditionalGet(postWebClient, uri, AuditionIntegrationClient.POST_CACHE, id, POST,
+            UnaryOperator.identity())
+            .transform(call -> resilience.decorate(UpstreamResilience.GET_POST_BY_ID, call))
+            .onErrorMap(WebClientResponseException.NotFound.class,
+                e -> new SystemException("Cannot find a Post with id " + id, "Resource Not Found", 404))
+            .onErrorMap(WebClientAuditionIntegrationClient::isClientError,
+                e -> new SystemException("Error retrieving posts: " + e.getMessage())));
+    }
+
+    /**
+     * Fetches posts with {@code ?id=a&id=b...} queries of at most {@code upstreamBatch.maxIdsPerRequest} ids, running
+     * at most {@code upstreamBatch.maxConcurrentRequests} of them at once.
+     */
+    private CompletableFuture<Map<String, AuditionPost>> fetchPostsByIds(Set<? extends String> ids) {
+        return Flux.<String>fromIterable(ids)
+            .buffer(maxIdsPerRequest)
+            .flatMap(batch -> fetchBatch(postWebClient, UpstreamUris.postsByIds(postUrl, batch), POST_LIST,
+                UpstreamResilience.GET_POSTS, "Error retrieving posts: "), maxConcurrentRequests)
+            .collectMap(post -> String.valueOf(post.getId()),
+                post -> lastKnownGood.remember(AuditionIntegrationClient.POST_CACHE, String.valueOf(post.getId()), post))
+            .toFuture();
+    }
+
+    /**
+     * Fetches comments with {@code ?postId=a&postId=b...} queries, bounded like {@link #fetchPostsByIds}. Posts
+     * without comments get an empty list, so that they are cached like any other post. Each batch is remembered as it
+     * completes, so a failing batch does not hold back the last known good values of the others.
+     */
+    private CompletableFuture<Map<String, List<AuditionComment>>> fetchCommentsByPostIds(
+        Set<? extends String> postIds) {
+        return Flux.<String>fromIterable(postIds)
+            .buffer(maxIdsPerRequest)
+            .flatMap(batch -> fetchBatch(commentWebClient, UpstreamUris.commentsByPostIds(commentsUrl, batch),
+                COMMENT_LIST, UpstreamResilience.GET_COMMENTS, "Error retrieving comments: ")
+                .collect(Collectors.groupingBy(comment -> String.valueOf(comment.getPostId())))
+                .map(byPostId -> rememberComments(batch, byPostId)), maxConcurrentRequests)
+            .<Map<String, List<AuditionComment>>>collect(HashMap::new, Map::putAll)
+            .toFuture();
+    }
+
+    private Map<String, List<AuditionComment>> rememberComments(List<String> postIds,
+        Map<String, List<AuditionComment>> byPostId) {
+        Map<String, List<AuditionComment>> result = new HashMap<>();
+        for (String postId : postIds) {
+            result.put(postId, lastKnownGood.remember(AuditionIntegrationClient.POST_COMMENTS_CACHE, postId,
+                List.copyOf(byPostId.getOrDefault(postId, List.of()))));
+        }
+        return result;
+    }
+
+    private <T> Flux<T> fetchBatch(final WebClient webClient, final URI uri,
+        final ParameterizedTypeReference<List<T>> type, final String operation, final String errorMessage) {
+        return Mono.defer(() -> fromCache(coalesced(uri, get(webClient, uri, type, null)
+                .mapNotNull(ResponseEntity::getBody)
+                .transform(call -> resilience.decorate(operation, call))
+                .onErrorMap(WebClientAuditionIntegrationClient::isClientError,
+                    e -> new SystemException(errorMessage + e.getMessage())))))
+            .flatMapIterable(Function.identity());
+    }
+
+    private CompletableFuture<List<AuditionComment>> fetchPostComments(String postId) {
+        URI uri = UpstreamUris.postComments(postUrl, postId);
+        return coalesced(uri, conditionalGet(postWebClient, uri, AuditionIntegrationClient.POST_COMMENTS_CACHE,
+            postId, COMMENT_LIST, List::copyOf)
+            .transform(call -> resilience.decorate(UpstreamResilience.GET_POST_COMMENTS, call))
+            .onErrorMap(WebClientAuditionIntegrationClient::isClientError,
+                e -> new SystemException("Error retrieving post comments: " + e.getMessage())));
+    }
+
+    private CompletableFuture<List<AuditionComment>> fetchComments(AuditionCommentFilterDto auditionCommentFilterDto) {
+        URI uri = UpstreamUris.comments(commentsUrl, auditionCommentFilterDto);
+        return coalesced(uri, conditionalGet(commentWebClient, uri, AuditionIntegrationClient.COMMENTS_CACHE,
+            auditionCommentFilterDto, COMMENT_LIST, List::copyOf)
+            .transform(call -> resilience.decorate(UpstreamResilience.GET_COMMENTS, call))
+            .onErrorMap(WebClientAuditionIntegrationClient::isClientError,
+                e -> new SystemException("Error retrieving comments: " + e.getMessage())));
+    }
+
+    /**
+     * Revalidates the last known good value with the upstream's own {@code ETag}. An unchanged resource comes back as
+     * an empty {@code 304}, and the stored value is reused without transferring or decoding the body again.
+     */
+    private <T> Mono<T> conditionalGet(final WebClient webClient, final URI uri, final String cacheName,
+        final Object key, final ParameterizedTypeReference<T> type, final UnaryOperator<T> copy) {
+        return Mono.defer(() -> get(webClient, uri, type, lastKnownGood.eTag(cacheName, key)))
+            .flatMap(response -> {
+                if (!response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                    return Mono.justOrEmpty(remember(cacheName, key, response, copy));
+                }
+                return Mono.justOrEmpty(lastKnownGood.<T>revalidated(cacheName, key))
+                    .switchIfEmpty(Mono.defer(() -> get(webClient, uri, type, null)
+                        .mapNotNull(unconditional -> remember(cacheName, key, unconditional, copy))));
+            });
+    }
+
+    private <T> T remember(final String cacheName, final Object key, final ResponseEntity<T> response,
+        final UnaryOperator<T> copy) {
+        return response.getBody() == null ? null
+            : lastKnownGood.remember(cacheName, key, copy.apply(response.getBody()), response.getHeaders().getETag());
+    }
+
+    private static <T> Mono<ResponseEntity<T>> get(final WebClient webClient, final URI uri,
+        final ParameterizedTypeReference<T> type, final String eTag) {
+        return webClient.get().uri(uri)
+            .headers(headers -> {
+                if (eTag != null) {
+                    headers.setIfNoneMatch(eTag);
+                }
+            })
+            .retrieve()
+            .toEntity(type);
+    }
+
+    private <V> Mono<Map<String, V>> getAll(final AsyncLoadingCache<String, V> cache, final String cacheName,
+        final Collection<String> ids) {
+        List<String> keys = ids.stream().map(String::trim).distinct().toList();
+        return fromCache(cache.getAll(keys))
+            .onErrorResume(e -> {
+                Map<String, V> present = cache.synchronous().getAllPresent(keys);
+                return Flux.fromIterable(keys)
+                    .concatMap(key -> (present.containsKey(key) ? Mono.just(present.get(key))
+                        : lastKnownGood.<V>staleOrError(cacheName, key, e))
+                        .map(value -> Map.entry(key, value)))
+                    .collectMap(Map.Entry::getKey, Map.Entry::getValue, LinkedHashMap::new);
+            });
+    }
+
+    private <T> CompletableFuture<T> coalesced(final URI uri, final Mono<T> call) {
+        return singleFlight.executeAsync(uri, call::toFuture);
+    }
+
+    /**
+     * Cached futures are shared by concurrent subscribers, so a cancelled subscription must not cancel the load.
+     */
+    private static <T> Mono<T> fromCache(final CompletableFuture<T> future) {
+        return Mono.fromFuture(future, true);
+    }
+
+    private static boolean isClientError(final Throwable e) {
+        return e instanceof WebClientResponseException responseException
+            && responseException.getStatusCode().is4xxClientError();
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Data;
 @Data
 public class AuditionComment {
 
+    private int postId;
     private int id;
     private String name;
     private String email;
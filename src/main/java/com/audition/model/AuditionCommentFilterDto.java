@@ -1,5 +1,20 @@
 package com.audition.model;
 
+import org.springframework.util.StringUtils;
+
 public record AuditionCommentFilterDto(String postId, String id, String name, String email) {
 
+    /**
+     * Returns an equivalent filter with blank values dropped and ids and email trimmed, suitable as a cache key.
+     *
+     * @return the normalized filter
+     */
+    public AuditionCommentFilterDto normalized() {
+        return new AuditionCommentFilterDto(trimToNull(postId), trimToNull(id),
+            StringUtils.hasText(name) ? name : null, trimToNull(email));
+    }
+
+    private static String trimToNull(final String value) {
+        return StringUtils.hasText(value) ? value.trim() : null;
+    }
 }
@@ -0,0 +1,16 @@
+package com.audition.model;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+import lombok.Singular;
+
+@Data
+@Builder
+public class AuditionPostBatch {
+
+    @Singular
+    private List<AuditionPost> posts;
+    @Singular
+    private List<String> notFoundIds;
+}
@@ -1,5 +1,19 @@
 package com.audition.model;
 
+import org.springframework.util.StringUtils;
+
 public record AuditionPostFilterDto(String userId, String id, String title) {
 
-}
\ No newline at end of file
+    /**
+     * Returns an equivalent filter with blank values dropped and numeric ids trimmed, suitable as a cache key.
+     *
+     * @return the normalized filter
+     */
+    public AuditionPostFilterDto normalized() {
+        return new AuditionPostFilterDto(trimToNull(userId), trimToNull(id), StringUtils.hasText(title) ? title : null);
+    }
+
+    private static String trimToNull(final String value) {
+        return StringUtils.hasText(value) ? value.trim() : null;
+    }
+}
@@ -0,0 +1,134 @@
+package com.audition.service;
+
+import com.audition.model.AuditionComment;
+import com.audition.model.AuditionCommentFilterDto;
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostFilterDto;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable in-memory copy of all posts and comments, indexed on every field the upstream API can filter on.
+ *
+ * <p>
+ * Filters have the upstream's semantics: every given field must match exactly and an id that is not a number
+ * matches nothing. A query starts from the most selective index available and checks the remaining fields on the
+ * candidate rows only.
+ * </p>
+ *
+ * <p>
+ * Data is held in {@link PostColumns} and {@link CommentColumns} rather than as model objects, and the models are
+ * built for the matching rows on each query. Callers therefore get their own instances.
+ * </p>
+ */
+final class AuditionDataset {
+
+    private final PostColumns posts;
+    private final CommentColumns comments;
+
+    private AuditionDataset(final PostColumns posts, final CommentColumns comments) {
+        this.posts = posts;
+        this.comments = comments;
+    }
+
+    static AuditionDataset of(final List<AuditionPost> posts, final List<AuditionComment> comments) {
+        return of(posts, comments, false);
+    }
+
+    static AuditionDataset of(final List<AuditionPost> posts, final List<AuditionComment> comments,
+        final boolean offHeapBodies) {
+        return of(PostColumns.of(posts, offHeapBodies), CommentColumns.of(comments, offHeapBodies));
+    }
+
+    static AuditionDataset of(final PostColumns posts, final CommentColumns comments) {
+        return new AuditionDataset(posts, comments);
+    }
+
+    int postCount() {
+        return posts.size();
+    }
+
+    int commentCount() {
+        return comments.size();
+    }
+
+    Optional<AuditionPost> findPost(final String id) {
+        final Integer postId = parseId(id);
+        if (postId == null) {
+            return Optional.empty();
+        }
+        return Arrays.stream(posts.rowsWithId(postId)).mapToObj(posts::toPost).findFirst();
+    }
+
+    List<AuditionPost> findPosts(final AuditionPostFilterDto filter) {
+        final Integer id = parseId(filter.id());
+        final Integer userId = parseId(filter.userId());
+        if ((filter.id() != null && id == null) || (filter.userId() != null && userId == null)) {
+            return List.of();
+        }
+        final IntStream candidates;
+        if (id != null) {
+            candidates = Arrays.stream(posts.rowsWithId(id));
+        } else if (userId != null) {
+            candidates = Arrays.stream(posts.rowsWithUserId(userId));
+        } else if (filter.title() != null) {
+            candidates = Arrays.stream(posts.rowsWithTitle(filter.title()));
+        } else {
+            candidates = IntStream.range(0, posts.size());
+        }
+        return candidates
+            .filter(row -> id == null || posts.id(row) == id)
+            .filter(row -> userId == null || posts.userId(row) == userId)
+            .filter(row -> filter.title() == null || filter.title().equals(posts.title(row)))
+            .mapToObj(posts::toPost)
+            .toList();
+    }
+
+    List<AuditionComment> commentsForPost(final String postId) {
+        final Integer id = parseId(postId);
+        if (id == null) {
+            return List.of();
+        }
+        return Arrays.stream(comments.rowsWithPostId(id)).mapToObj(comments::toComment).toList();
+    }
+
+    List<AuditionComment> findComments(final AuditionCommentFilterDto filter) {
+        final Integer id = parseId(filter.id());
+        final Integer postId = parseId(filter.postId());
+        if ((filter.id() != null && id == null) || (filter.postId() != null && postId == null)) {
+            return List.of();
+        }
+        final IntStream candidates;
+        if (id != null) {
+            candidates = Arrays.stream(comments.rowsWithId(id));
+        } else if (filter.email() != null) {
+            candidates = Arrays.stream(comments.rowsWithEmail(filter.email()));
+        } else if (filter.name() != null) {
+            candidates = Arrays.stream(comments.rowsWithName(filter.name()));
+        } else if (postId != null) {
+            candidates = Arrays.stream(comments.rowsWithPostId(postId));
+        } else {
+            candidates = IntStream.range(0, comments.size());
+        }
+        return candidates
+            .filter(row -> id == null || comments.id(row) == id)
+            .filter(row -> postId == null || comments.postId(row) == postId)
+            .filter(row -> filter.name() == null || filter.name().equals(comments.name(row)))
+            .filter(row -> filter.email() == null || filter.email().equals(comments.email(row)))
+            .mapToObj(comments::toComment)
+            .toList();
+    }
+
+    private static Integer parseId(final String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -1,15 +1,31 @@
 package com.audition.service;
 
+import com.audition.common.exception.SystemException;
+import com.audition.configuration.ExecutorConfiguration;
 import com.audition.integration.AuditionIntegrationClient;
 import com.audition.model.AuditionComment;
 import com.audition.model.AuditionCommentFilterDto;
 import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostBatch;
 import com.audition.model.AuditionPostComments;
 import com.audition.model.AuditionPostFilterDto;
 
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -18,6 +34,16 @@ public class AuditionService {
     @Autowired
     private transient AuditionIntegrationClient auditionIntegrationClient;
 
+    @Autowired
+    @Qualifier(ExecutorConfiguration.UPSTREAM_EXECUTOR)
+    private transient Executor upstreamExecutor;
+
+    @Value("${postComments.timeout:3s}")
+    private transient Duration postCommentsTimeout;
+
+    @Autowired(required = false)
+    private transient LocalAuditionDataset localDataset;
+
     /**
      * Retrieves audition posts based on the provided filter criteria.
      *
@@ -25,7 +51,9 @@ public class AuditionService {
      * @return a list of audition posts matching the filter criteria
      */
     public List<AuditionPost> getPosts(AuditionPostFilterDto auditionPostFilterDto) {
-        return auditionIntegrationClient.getPosts(auditionPostFilterDto);
+        return localDataset()
+            .map(dataset -> dataset.findPosts(auditionPostFilterDto.normalized()))
+            .orElseGet(() -> auditionIntegrationClient.getPosts(auditionPostFilterDto));
     }
 
     /**
@@ -35,22 +63,95 @@ public class AuditionService {
      * @return the audition post with the specified ID, or {@code null} if not found
      */
     public AuditionPost getPostById(String postId) {
-        return auditionIntegrationClient.getPostById(postId);
+        return localDataset()
+            .flatMap(dataset -> dataset.findPost(postId.trim()))
+            .orElseGet(() -> auditionIntegrationClient.getPostById(postId));
+    }
+
+    /**
+     * Retrieves several audition posts by their IDs in one call.
+     *
+     * <p>
+     * Posts are taken from the local dataset when it is loaded and from the integration client's cache otherwise.
+     * The remaining posts are fetched together rather than one upstream request per post.
+     * </p>
+     *
+     * @param ids the IDs of the audition posts to retrieve
+     * @return the posts found, in request order, and the IDs that were not found
+     */
+    public AuditionPostBatch getPostsByIds(List<String> ids) {
+        List<String> keys = ids.stream().map(String::trim).distinct().toList();
+        Map<String, AuditionPost> found = new HashMap<>();
+        localDataset().ifPresent(dataset -> keys.forEach(key -> dataset.findPost(key)
+            .ifPresent(post -> found.put(key, post))));
+        List<String> missing = keys.stream().filter(key -> !found.containsKey(key)).toList();
+        if (!missing.isEmpty()) {
+            found.putAll(auditionIntegrationClient.getPostsByIds(missing));
+        }
+        return toPostBatch(keys, found);
     }
 
     /**
      * Retrieves audition post comments for a specific post ID.
      *
+     * <p>
+     * The post and its comments are fetched concurrently and joined under a single deadline
+     * ({@code postComments.timeout}). If either call fails, the failure is reported immediately instead of waiting for
+     * the slower call. The other call is only abandoned, not stopped: it runs inside a cache load that other requests
+     * for the same post may be waiting on, so it keeps running to completion and still fills the cache.
+     * </p>
+     *
      * @param postId the ID of the audition post for which to retrieve comments
      * @return the audition post along with its comments
+     * @throws SystemException if either upstream call fails or the deadline expires
      */
 
     public AuditionPostComments getPostComments(String postId) {
-        AuditionPost post = auditionIntegrationClient.getPostById(postId);
-        List<AuditionComment> comments = auditionIntegrationClient.getPostComments(postId);
-        return AuditionPostComments.builder()
-                .postId(post.getId()).title(post.getTitle()).body(post.getBody())
-                .comments(comments).build();
+        Optional<AuditionDataset> dataset = localDataset();
+        Optional<AuditionPost> localPost = dataset.flatMap(local -> local.findPost(postId.trim()));
+        if (localPost.isPresent()) {
+            return toPostComments(localPost.get(), dataset.get().commentsForPost(postId.trim()));
+        }
+
+        final CompletableFuture<AuditionPost> postFuture;
+        final CompletableFuture<List<AuditionComment>> commentsFuture;
+        try {
+            postFuture = CompletableFuture.supplyAsync(
+                () -> auditionIntegrationClient.getPostById(postId), upstreamExecutor);
+            commentsFuture = CompletableFuture.supplyAsync(
+                () -> auditionIntegrationClient.getPostComments(postId), upstreamExecutor);
+        } catch (RejectedExecutionException e) {
+            throw new SystemException("Too many concurrent requests, please retry", 503, e);
+        }
+        await(postId, postFuture, commentsFuture);
+
+        return toPostComments(postFuture.join(), commentsFuture.join());
+    }
+
+    /**
+     * Retrieves audition posts based on the provided filter criteria, each with its comments embedded.
+     *
+     * <p>
+     * The comments of all matched posts are taken from the local dataset when it is loaded. Otherwise they are
+     * loaded in one bulk call to the integration client and joined to the posts in memory, instead of one comments
+     * request per post.
+     * </p>
+     *
+     * @param auditionPostFilterDto the filter criteria for retrieving audition posts
+     * @return the matching posts along with their comments
+     */
+    public List<AuditionPostComments> getPostsWithComments(AuditionPostFilterDto auditionPostFilterDto) {
+        List<AuditionPost> posts = getPosts(auditionPostFilterDto);
+        Optional<AuditionDataset> dataset = localDataset();
+        if (dataset.isPresent()) {
+            return posts.stream()
+                .map(post -> toPostComments(post, dataset.get().commentsForPost(String.valueOf(post.getId()))))
+                .toList();
+        }
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+        return toPostsWithComments(posts, auditionIntegrationClient.getCommentsByPostIds(postIds(posts)));
     }
 
     /**
@@ -61,6 +162,92 @@ public class AuditionService {
      */
 
     public List<AuditionComment> getComments(AuditionCommentFilterDto auditionCommentFilterDto) {
-        return auditionIntegrationClient.getComments(auditionCommentFilterDto);
+        return localDataset()
+            .map(dataset -> dataset.findComments(auditionCommentFilterDto.normalized()))
+            .orElseGet(() -> auditionIntegrationClient.getComments(auditionCommentFilterDto));
+    }
+
+    /**
+     * Posts that are not in the local dataset, for example because they were created after the last reload, are
+     * still looked up upstream. Filter queries are answered from the dataset alone.
+     */
+    private Optional<AuditionDataset> localDataset() {
+        return localDataset == null ? Optional.empty() : localDataset.current();
+    }
+
+    private static AuditionPostComments toPostComments(AuditionPost post, List<AuditionComment> comments) {
+        return AuditionPostComments.builder()
+                .postId(post.getId()).title(post.getTitle()).body(post.getBody())
+                .comments(comments).build();
+    }
+
+    static List<String> postIds(List<AuditionPost> posts) {
+        return posts.stream().map(post -> String.valueOf(post.getId())).distinct().toList();
+    }
+
+    static List<AuditionPostComments> toPostsWithComments(List<AuditionPost> posts,
+        Map<String, List<AuditionComment>> comments) {
+        return posts.stream()
+            .map(post -> toPostComments(post, comments.getOrDefault(String.valueOf(post.getId()), List.of())))
+            .toList();
+    }
+
+    static AuditionPostBatch toPostBatch(List<String> ids, Map<String, AuditionPost> found) {
+        AuditionPostBatch.AuditionPostBatchBuilder batch = AuditionPostBatch.builder();
+        for (String id : ids) {
+            AuditionPost post = found.get(id);
+            if (post == null) {
+                batch.notFoundId(id);
+            } else {
+                batch.post(post);
+            }
+        }
+        return batch.build();
+    }
+
+    private void await(String postId, CompletableFuture<?>... futures) {
+        CompletableFuture<Object> firstFailure = new CompletableFuture<>();
+        for (CompletableFuture<?> future : futures) {
+            future.whenComplete((result, error) -> {
+                if (error != null) {
+                    firstFailure.completeExceptionally(error);
+                }
+            });
+        }
+        try {
+            CompletableFuture.anyOf(CompletableFuture.allOf(futures), firstFailure)
+                .get(postCommentsTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            abandon(futures);
+            throw unwrap(e.getCause());
+        } catch (TimeoutException e) {
+            abandon(futures);
+            throw new SystemException("Timed out retrieving comments for post " + postId, 504, e);
+        } catch (InterruptedException e) {
+            abandon(futures);
+            Thread.currentThread().interrupt();
+            throw new SystemException("Interrupted while retrieving comments for post " + postId, e);
+        }
+    }
+
+    /**
+     * Detaches this request from calls it no longer waits for. {@link CompletableFuture#cancel} never interrupts the
+     * task behind the future, so the upstream calls carry on; only the dependent stages of this request are skipped.
+     */
+    private static void abandon(CompletableFuture<?>... futures) {
+        for (CompletableFuture<?> future : futures) {
+            future.cancel(false);
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new SystemException("Error retrieving post comments: " + cause.getMessage(), cause);
     }
 }
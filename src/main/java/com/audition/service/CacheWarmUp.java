@@ -0,0 +1,193 @@
+package com.audition.service;
+
+import com.audition.common.cache.AuditionCacheFactory;
+import com.audition.integration.AuditionIntegrationClient;
+import com.audition.model.AuditionCommentFilterDto;
+import com.audition.model.AuditionPostFilterDto;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the upstream caches before the application reports ready, so that a new replica does not answer its first
+ * requests with cache misses. Enabled with {@code warmUp.enabled=true}.
+ *
+ * <p>
+ * Spring Boot switches the readiness state to {@code ACCEPTING_TRAFFIC} only once every runner has returned, so
+ * {@code /actuator/health/readiness} stays down while this runner waits for the warm-up. It waits at most
+ * {@code warmUp.timeout}; loads still running then complete in the background.
+ * </p>
+ *
+ * <p>
+ * In {@code full} mode, the default, all posts and comments are loaded. In {@code hot-keys} mode only the posts and
+ * post comments most used by the previous run are loaded. Their ids are read from {@code warmUp.hotKeysFile}, which
+ * is rewritten from the caches' eviction policy every {@code warmUp.persistInterval} and on shutdown. The file must be
+ * on storage that outlives the replica, such as a mounted volume; when it is missing or empty, as on the first start
+ * of a pod, the full warm-up is done instead.
+ * </p>
+ *
+ * <p>
+ * The warm-up's loads run on threads of their own. The integration client spreads each bulk load over
+ * {@code upstreamExecutor} and waits for it, so running the loads on that pool as well could leave its threads
+ * waiting for work queued behind them.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = CacheWarmUp.ENABLED_PROPERTY, havingValue = "true")
+public class CacheWarmUp implements CommandLineRunner {
+
+    public static final String ENABLED_PROPERTY = "warmUp.enabled";
+
+    static final String FULL = "full";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CacheWarmUp.class);
+    private static final List<String> HOT_KEY_CACHES = List.of(AuditionIntegrationClient.POST_CACHE,
+        AuditionIntegrationClient.POST_COMMENTS_CACHE);
+    private static final char SEPARATOR = '\t';
+
+    @Autowired
+    private transient AuditionIntegrationClient auditionIntegrationClient;
+
+    @Autowired
+    private transient AuditionCacheFactory cacheFactory;
+
+    @Value("${warmUp.mode:full}")
+    private transient String mode;
+
+    @Value("${warmUp.topN:500}")
+    private transient int topN;
+
+    @Value("${warmUp.timeout:30s}")
+    private transient Duration timeout;
+
+    @Value("${warmUp.hotKeysFile:${java.io.tmpdir}/audition-hot-keys.tsv}")
+    private transient Path hotKeysFile;
+
+    @Override
+    public void run(String... args) {
+        long start = System.nanoTime();
+        ExecutorService warmUpExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("cache-warm-up-", 0).factory());
+        try {
+            CompletableFuture<Void> warmUp = FULL.equals(mode) ? warmUpAll(warmUpExecutor)
+                : warmUpHotKeysOrAll(warmUpExecutor);
+            warmUp.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            LOGGER.info("Cache warm-up ({}) completed in {} ms", mode,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (TimeoutException e) {
+            LOGGER.warn("Cache warm-up ({}) did not complete within {}, reporting ready with partly warm caches",
+                mode, timeout);
+        } catch (ExecutionException | RuntimeException e) {
+            LOGGER.warn("Cache warm-up ({}) failed, reporting ready with cold caches", mode, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // loads still running complete in the background
+            warmUpExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Writes the ids of the hottest posts and post comments to {@code warmUp.hotKeysFile} for the next start. The file
+     * is replaced atomically and left alone while the caches are still empty.
+     */
+    @PreDestroy
+    @Scheduled(initialDelayString = "${warmUp.persistInterval:PT5M}",
+        fixedDelayString = "${warmUp.persistInterval:PT5M}")
+    public void persistHotKeys() {
+        List<String> lines = new ArrayList<>();
+        for (String cacheName : HOT_KEY_CACHES) {
+            cacheFactory.hottestKeys(cacheName, topN).forEach(key -> lines.add(cacheName + SEPARATOR + key));
+        }
+        if (lines.isEmpty()) {
+            return;
+        }
+        try {
+            Path target = hotKeysFile.toAbsolutePath();
+            Files.createDirectories(target.getParent());
+            Path temporary = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            Files.write(temporary, lines, StandardCharsets.UTF_8);
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Could not persist hot cache keys to {}", hotKeysFile, e);
+        }
+    }
+
+    private CompletableFuture<Void> warmUpHotKeysOrAll(Executor executor) {
+        Map<String, List<String>> hotKeys = readHotKeys();
+        if (hotKeys.isEmpty()) {
+            LOGGER.info("No hot cache keys to warm up, warming up the full dataset instead");
+            return warmUpAll(executor);
+        }
+        List<String> postIds = hotKeys.getOrDefault(AuditionIntegrationClient.POST_CACHE, List.of());
+        List<String> commentPostIds = hotKeys.getOrDefault(AuditionIntegrationClient.POST_COMMENTS_CACHE, List.of());
+        LOGGER.info("Warming up {} posts and the comments of {} posts", postIds.size(), commentPostIds.size());
+        List<CompletableFuture<?>> loads = new ArrayList<>();
+        if (!postIds.isEmpty()) {
+            loads.add(CompletableFuture.runAsync(() -> auditionIntegrationClient.getPostsByIds(postIds), executor));
+        }
+        if (!commentPostIds.isEmpty()) {
+            loads.add(CompletableFuture.runAsync(() -> auditionIntegrationClient.getCommentsByPostIds(commentPostIds),
+                executor));
+        }
+        return CompletableFuture.allOf(loads.toArray(CompletableFuture<?>[]::new));
+    }
+
+    /**
+     * Loads the unfiltered post and comment lists, then every post and the comments of every post by id.
+     */
+    private CompletableFuture<Void> warmUpAll(Executor executor) {
+        CompletableFuture<List<String>> postIds = CompletableFuture.supplyAsync(() -> AuditionService.postIds(
+            auditionIntegrationClient.getPosts(new AuditionPostFilterDto(null, null, null))), executor);
+        return CompletableFuture.allOf(
+            postIds.thenAcceptAsync(ids -> auditionIntegrationClient.getPostsByIds(ids), executor),
+            postIds.thenAcceptAsync(ids -> auditionIntegrationClient.getCommentsByPostIds(ids), executor),
+            CompletableFuture.runAsync(() -> auditionIntegrationClient.getComments(
+                new AuditionCommentFilterDto(null, null, null, null)), executor));
+    }
+
+    private Map<String, List<String>> readHotKeys() {
+        Map<String, List<String>> hotKeys = new LinkedHashMap<>();
+        if (!Files.isReadable(hotKeysFile)) {
+            LOGGER.info("No hot cache keys found at {}", hotKeysFile);
+            return hotKeys;
+        }
+        try {
+            for (String line : Files.readAllLines(hotKeysFile, StandardCharsets.UTF_8)) {
+                int separator = line.indexOf(SEPARATOR);
+                if (separator > 0) {
+                    List<String> keys = hotKeys.computeIfAbsent(line.substring(0, separator), name -> new ArrayList<>());
+                    if (keys.size() < topN) {
+                        keys.add(line.substring(separator + 1));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not read hot cache keys from {}", hotKeysFile, e);
+        }
+        return hotKeys;
+    }
+}
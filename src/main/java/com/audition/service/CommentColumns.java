@@ -0,0 +1,84 @@
+package com.audition.service;
+
+import com.audition.model.AuditionComment;
+import java.util.List;
+
+/**
+ * Columnar, primitive-specialized storage for comments: one array per field instead of one object per comment, with
+ * a sorted row index on every filterable field. {@link AuditionComment} instances are only created for the rows a
+ * query returns.
+ */
+final class CommentColumns {
+
+    private final int[] ids;
+    private final int[] postIds;
+    private final String[] names;
+    private final String[] emails;
+    private final Utf8Column bodies;
+    private final IntRowIndex byId;
+    private final IntRowIndex byPostId;
+    private final StringRowIndex byName;
+    private final StringRowIndex byEmail;
+
+    private CommentColumns(final List<AuditionComment> comments, final boolean offHeapBodies) {
+        this.ids = comments.stream().mapToInt(AuditionComment::getId).toArray();
+        this.postIds = comments.stream().mapToInt(AuditionComment::getPostId).toArray();
+        this.names = StringColumns.deduplicated(comments, AuditionComment::getName);
+        this.emails = StringColumns.deduplicated(comments, AuditionComment::getEmail);
+        this.bodies = Utf8Column.of(comments.stream().map(AuditionComment::getBody).toList(), offHeapBodies);
+        this.byId = new IntRowIndex(ids);
+        this.byPostId = new IntRowIndex(postIds);
+        this.byName = new StringRowIndex(names);
+        this.byEmail = new StringRowIndex(emails);
+    }
+
+    static CommentColumns of(final List<AuditionComment> comments, final boolean offHeapBodies) {
+        return new CommentColumns(comments, offHeapBodies);
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    int id(final int row) {
+        return ids[row];
+    }
+
+    int postId(final int row) {
+        return postIds[row];
+    }
+
+    String name(final int row) {
+        return names[row];
+    }
+
+    String email(final int row) {
+        return emails[row];
+    }
+
+    int[] rowsWithId(final int id) {
+        return byId.rows(id);
+    }
+
+    int[] rowsWithPostId(final int postId) {
+        return byPostId.rows(postId);
+    }
+
+    int[] rowsWithName(final String name) {
+        return byName.rows(name);
+    }
+
+    int[] rowsWithEmail(final String email) {
+        return byEmail.rows(email);
+    }
+
+    AuditionComment toComment(final int row) {
+        final AuditionComment comment = new AuditionComment();
+        comment.setId(ids[row]);
+        comment.setPostId(postIds[row]);
+        comment.setName(names[row]);
+        comment.setEmail(emails[row]);
+        comment.setBody(bodies.get(row));
+        return comment;
+    }
+}
@@ -0,0 +1,43 @@
+package com.audition.service;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Maps an int column value to the rows holding it, as two parallel arrays sorted by value. A lookup is a binary
+ * search, and the index costs eight bytes per row whatever the number of distinct values.
+ */
+final class IntRowIndex {
+
+    private final int[] keys;
+    private final int[] rows;
+
+    IntRowIndex(final int[] column) {
+        this.rows = IntStream.range(0, column.length).boxed()
+            .sorted((left, right) -> Integer.compare(column[left], column[right]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+        this.keys = Arrays.stream(rows).map(row -> column[row]).toArray();
+    }
+
+    /**
+     * Returns the rows holding the value, in row order.
+     *
+     * @param key the value to look up
+     * @return the matching rows, empty if there are none
+     */
+    int[] rows(final int key) {
+        int from = Arrays.binarySearch(keys, key);
+        if (from < 0) {
+            return new int[0];
+        }
+        int to = from;
+        while (from > 0 && keys[from - 1] == key) {
+            from--;
+        }
+        while (to < keys.length && keys[to] == key) {
+            to++;
+        }
+        return Arrays.copyOfRange(rows, from, to);
+    }
+}
@@ -0,0 +1,86 @@
+package com.audition.service;
+
+import com.audition.integration.AuditionIntegrationClient;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds a complete, indexed copy of the upstream posts and comments so that {@link AuditionService} can answer
+ * filter queries without a network round trip. Enabled with {@code localDataset.enabled=true}.
+ *
+ * <p>
+ * The dataset is loaded at startup and reloaded every {@code localDataset.refreshInterval}. A reload builds a new
+ * {@link AuditionDataset} and swaps it in atomically, so queries never see a partial load. If a load fails the
+ * previous dataset is kept, and until the first load succeeds queries go to the upstream as usual.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = LocalAuditionDataset.ENABLED_PROPERTY, havingValue = "true")
+public class LocalAuditionDataset {
+
+    public static final String ENABLED_PROPERTY = "localDataset.enabled";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LocalAuditionDataset.class);
+
+    @Autowired
+    private transient AuditionIntegrationClient auditionIntegrationClient;
+
+    @Autowired
+    private transient MeterRegistry meterRegistry;
+
+    @Value("${localDataset.offHeapBodies:false}")
+    private transient boolean offHeapBodies;
+
+    private transient volatile AuditionDataset dataset;
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("audition.dataset.size", this, local -> local.current().map(AuditionDataset::postCount)
+                .orElse(0))
+            .tag("type", "posts").register(meterRegistry);
+        Gauge.builder("audition.dataset.size", this, local -> local.current().map(AuditionDataset::commentCount)
+                .orElse(0))
+            .tag("type", "comments").register(meterRegistry);
+        reload();
+    }
+
+    /**
+     * Reloads the whole dataset from the upstream. The load bypasses the upstream caches and the last known good
+     * store, so the only copy retained is the columnar one.
+     */
+    @Scheduled(initialDelayString = "${localDataset.refreshInterval:PT10M}",
+        fixedDelayString = "${localDataset.refreshInterval:PT10M}")
+    public void reload() {
+        try {
+            // each model list is unreachable once its columns are built, so at most one is held at a time
+            PostColumns posts = PostColumns.of(auditionIntegrationClient.getAllPostsUncached(), offHeapBodies);
+            CommentColumns comments = CommentColumns.of(auditionIntegrationClient.getAllCommentsUncached(),
+                offHeapBodies);
+            AuditionDataset loaded = AuditionDataset.of(posts, comments);
+            dataset = loaded;
+            LOGGER.info("Loaded local dataset with {} posts and {} comments", loaded.postCount(),
+                loaded.commentCount());
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not load local dataset, {}", dataset == null
+                ? "queries go to the upstream until a load succeeds" : "keeping the previous one", e);
+        }
+    }
+
+    /**
+     * Returns the current dataset.
+     *
+     * @return the dataset, or empty if none has been loaded yet
+     */
+    Optional<AuditionDataset> current() {
+        return Optional.ofNullable(dataset);
+    }
+}
@@ -0,0 +1,71 @@
+package com.audition.service;
+
+import com.audition.model.AuditionPost;
+import java.util.List;
+
+/**
+ * Columnar, primitive-specialized storage for posts: one array per field instead of one object per post, with a
+ * sorted row index on every filterable field. {@link AuditionPost} instances are only created for the rows a query
+ * returns.
+ */
+final class PostColumns {
+
+    private final int[] ids;
+    private final int[] userIds;
+    private final String[] titles;
+    private final Utf8Column bodies;
+    private final IntRowIndex byId;
+    private final IntRowIndex byUserId;
+    private final StringRowIndex byTitle;
+
+    private PostColumns(final List<AuditionPost> posts, final boolean offHeapBodies) {
+        this.ids = posts.stream().mapToInt(AuditionPost::getId).toArray();
+        this.userIds = posts.stream().mapToInt(AuditionPost::getUserId).toArray();
+        this.titles = StringColumns.deduplicated(posts, AuditionPost::getTitle);
+        this.bodies = Utf8Column.of(posts.stream().map(AuditionPost::getBody).toList(), offHeapBodies);
+        this.byId = new IntRowIndex(ids);
+        this.byUserId = new IntRowIndex(userIds);
+        this.byTitle = new StringRowIndex(titles);
+    }
+
+    static PostColumns of(final List<AuditionPost> posts, final boolean offHeapBodies) {
+        return new PostColumns(posts, offHeapBodies);
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    int id(final int row) {
+        return ids[row];
+    }
+
+    int userId(final int row) {
+        return userIds[row];
+    }
+
+    String title(final int row) {
+        return titles[row];
+    }
+
+    int[] rowsWithId(final int id) {
+        return byId.rows(id);
+    }
+
+    int[] rowsWithUserId(final int userId) {
+        return byUserId.rows(userId);
+    }
+
+    int[] rowsWithTitle(final String title) {
+        return byTitle.rows(title);
+    }
+
+    AuditionPost toPost(final int row) {
+        final AuditionPost post = new AuditionPost();
+        post.setId(ids[row]);
+        post.setUserId(userIds[row]);
+        post.setTitle(titles[row]);
+        post.setBody(bodies.get(row));
+        return post;
+    }
+}
@@ -0,0 +1,115 @@
+package com.audition.service;
+
+import com.audition.common.exception.SystemException;
+import com.audition.integration.AuditionIntegrationClient;
+import com.audition.integration.ReactiveAuditionIntegrationClient;
+import com.audition.model.AuditionComment;
+import com.audition.model.AuditionCommentFilterDto;
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostBatch;
+import com.audition.model.AuditionPostComments;
+import com.audition.model.AuditionPostFilterDto;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link AuditionService}, active when {@code integrationClient.type=web-client}.
+ */
+@Service
+@ConditionalOnProperty(name = AuditionIntegrationClient.CLIENT_TYPE_PROPERTY, havingValue = "web-client")
+public class ReactiveAuditionService {
+
+    @Autowired
+    private transient ReactiveAuditionIntegrationClient reactiveAuditionIntegrationClient;
+
+    @Value("${postComments.timeout:3s}")
+    private transient Duration postCommentsTimeout;
+
+    /**
+     * Retrieves audition posts based on the provided filter criteria.
+     *
+     * @param auditionPostFilterDto the filter criteria for retrieving audition posts
+     * @return the audition posts matching the filter criteria
+     */
+    public Flux<AuditionPost> getPosts(AuditionPostFilterDto auditionPostFilterDto) {
+        return reactiveAuditionIntegrationClient.getPosts(auditionPostFilterDto);
+    }
+
+    /**
+     * Retrieves a specific audition post by its ID.
+     *
+     * @param postId the ID of the audition post to retrieve
+     * @return the audition post with the specified ID
+     */
+    public Mono<AuditionPost> getPostById(String postId) {
+        return reactiveAuditionIntegrationClient.getPostById(postId);
+    }
+
+    /**
+     * Retrieves several audition posts by their IDs in one call, fetching the ones not cached together.
+     *
+     * @param ids the IDs of the audition posts to retrieve
+     * @return the posts found, in request order, and the IDs that were not found
+     */
+    public Mono<AuditionPostBatch> getPostsByIds(List<String> ids) {
+        List<String> keys = ids.stream().map(String::trim).distinct().toList();
+        return reactiveAuditionIntegrationClient.getPostsByIds(keys)
+            .map(found -> AuditionService.toPostBatch(keys, found));
+    }
+
+    /**
+     * Retrieves audition post comments for a specific post ID.
+     *
+     * <p>
+     * The post and its comments are requested concurrently, and the combined result must arrive within
+     * {@code postComments.timeout}. The first error is reported at once, but the other request is only unsubscribed
+     * from: it is a cache load that other requests may share, so it keeps running and still fills the cache.
+     * </p>
+     *
+     * @param postId the ID of the audition post for which to retrieve comments
+     * @return the audition post along with its comments
+     */
+    public Mono<AuditionPostComments> getPostComments(String postId) {
+        return Mono.zip(reactiveAuditionIntegrationClient.getPostById(postId),
+                reactiveAuditionIntegrationClient.getPostComments(postId).collectList())
+            .map(postAndComments -> AuditionPostComments.builder()
+                .postId(postAndComments.getT1().getId())
+                .title(postAndComments.getT1().getTitle())
+                .body(postAndComments.getT1().getBody())
+                .comments(postAndComments.getT2()).build())
+            .timeout(postCommentsTimeout)
+            .onErrorMap(TimeoutException.class,
+                e -> new SystemException("Timed out retrieving comments for post " + postId, 504, e));
+    }
+
+    /**
+     * Retrieves audition posts based on the provided filter criteria, each with its comments embedded. The comments
+     * of all matched posts are loaded in one bulk call and joined to the posts in memory.
+     *
+     * @param auditionPostFilterDto the filter criteria for retrieving audition posts
+     * @return the matching posts along with their comments
+     */
+    public Mono<List<AuditionPostComments>> getPostsWithComments(AuditionPostFilterDto auditionPostFilterDto) {
+        return reactiveAuditionIntegrationClient.getPosts(auditionPostFilterDto).collectList()
+            .flatMap(posts -> posts.isEmpty() ? Mono.just(List.<AuditionPostComments>of())
+                : reactiveAuditionIntegrationClient.getCommentsByPostIds(AuditionService.postIds(posts))
+                    .map(comments -> AuditionService.toPostsWithComments(posts, comments)));
+    }
+
+    /**
+     * Retrieves audition comments based on the provided filter criteria.
+     *
+     * @param auditionCommentFilterDto the filter criteria for retrieving audition comments
+     * @return the audition comments matching the filter criteria
+     */
+    public Flux<AuditionComment> getComments(AuditionCommentFilterDto auditionCommentFilterDto) {
+        return reactiveAuditionIntegrationClient.getComments(auditionCommentFilterDto);
+    }
+}
@@ -0,0 +1,26 @@
+package com.audition.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+final class StringColumns {
+
+    private StringColumns() {
+    }
+
+    /**
+     * Extracts a string column in which equal values share one instance. The pool only lives for the build, unlike
+     * {@link String#intern()}.
+     */
+    static <T> String[] deduplicated(final List<T> rows, final Function<T, String> field) {
+        final Map<String, String> pool = new HashMap<>();
+        final String[] column = new String[rows.size()];
+        for (int row = 0; row < column.length; row++) {
+            final String value = field.apply(rows.get(row));
+            column[row] = value == null ? null : pool.computeIfAbsent(value, Function.identity());
+        }
+        return column;
+    }
+}
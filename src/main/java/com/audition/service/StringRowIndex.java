@@ -0,0 +1,46 @@
+package com.audition.service;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * Maps a string column value to the rows holding it, as parallel arrays sorted by value. The keys are the column's
+ * own, already deduplicated, strings, so the index adds references rather than copies. Null values are not indexed.
+ */
+final class StringRowIndex {
+
+    private final String[] keys;
+    private final int[] rows;
+
+    StringRowIndex(final String[] column) {
+        this.rows = IntStream.range(0, column.length)
+            .filter(row -> column[row] != null)
+            .boxed()
+            .sorted(Comparator.comparing(row -> column[row]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+        this.keys = Arrays.stream(rows).mapToObj(row -> column[row]).toArray(String[]::new);
+    }
+
+    /**
+     * Returns the rows holding the value, in row order.
+     *
+     * @param key the value to look up
+     * @return the matching rows, empty if there are none
+     */
+    int[] rows(final String key) {
+        int from = Arrays.binarySearch(keys, key);
+        if (from < 0) {
+            return new int[0];
+        }
+        int to = from;
+        while (from > 0 && keys[from - 1].equals(key)) {
+            from--;
+        }
+        while (to < keys.length && keys[to].equals(key)) {
+            to++;
+        }
+        return Arrays.copyOfRange(rows, from, to);
+    }
+}
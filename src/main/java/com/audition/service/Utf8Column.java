@@ -0,0 +1,60 @@
+package com.audition.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Column of strings stored back to back as UTF-8 in a single buffer, addressed by row through an offsets array.
+ *
+ * <p>
+ * Large text such as post and comment bodies costs one byte per ASCII character and no per-string object header.
+ * The buffer can be allocated off-heap, in which case it is not scanned or copied by the garbage collector. A string
+ * is only decoded when its row is read.
+ * </p>
+ */
+final class Utf8Column {
+
+    private final ByteBuffer data;
+    private final int[] offsets;
+    private final boolean[] nulls;
+
+    private Utf8Column(final ByteBuffer data, final int[] offsets, final boolean[] nulls) {
+        this.data = data;
+        this.offsets = offsets;
+        this.nulls = nulls;
+    }
+
+    static Utf8Column of(final List<String> values, final boolean offHeap) {
+        final byte[][] encoded = new byte[values.size()][];
+        final boolean[] nulls = new boolean[values.size()];
+        int length = 0;
+        for (int row = 0; row < encoded.length; row++) {
+            final String value = values.get(row);
+            nulls[row] = value == null;
+            encoded[row] = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+            length += encoded[row].length;
+        }
+        final ByteBuffer data = offHeap ? ByteBuffer.allocateDirect(length) : ByteBuffer.allocate(length);
+        final int[] offsets = new int[encoded.length + 1];
+        for (int row = 0; row < encoded.length; row++) {
+            offsets[row] = data.position();
+            data.put(encoded[row]);
+        }
+        offsets[encoded.length] = data.position();
+        return new Utf8Column(data.asReadOnlyBuffer(), offsets, nulls);
+    }
+
+    String get(final int row) {
+        if (nulls[row]) {
+            return null;
+        }
+        final byte[] bytes = new byte[offsets[row + 1] - offsets[row]];
+        data.get(offsets[row], bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    long dataBytes() {
+        return data.capacity();
+    }
+}
@@ -1,31 +1,47 @@
 package com.audition.web;
 
-import com.audition.model.AuditionComment;
+import com.audition.integration.AuditionIntegrationClient;
 import com.audition.model.AuditionCommentFilterDto;
 import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostBatch;
 import com.audition.model.AuditionPostComments;
 import com.audition.model.AuditionPostFilterDto;
 import com.audition.service.AuditionService;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 import java.util.List;
+import java.util.Set;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.format.annotation.NumberFormat;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @Validated
+@ConditionalOnProperty(name = AuditionIntegrationClient.CLIENT_TYPE_PROPERTY, havingValue = "rest-template",
+    matchIfMissing = true)
 public class AuditionController {
 
+    static final int MAX_BATCH_IDS = 100;
+
     @Autowired
     private transient AuditionService auditionService;
 
+    @Autowired
+    private transient CacheableResponses cacheableResponses;
+
 
     /**
      * Retrieves audition posts based on provided filter parameters.
@@ -33,17 +49,65 @@ public class AuditionController {
      * @param userId optional user ID filter (must be positive)
      * @param id     optional post ID filter (must be positive)
      * @param title  optional title filter
+     * @param page   optional zero based page number
+     * @param size   optional page size
+     * @param fields optional properties to return for each post, all when absent
      * @return list of audition posts matching the filters
      */
 
-    @GetMapping(value = "/posts", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/posts", params = "!ids", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get audition posts - Filter data based on provided parameters")
-    public List<AuditionPost> getPosts(@RequestParam(required = false) @NumberFormat @Positive String userId,
+    public ResponseEntity<Object> getPosts(@RequestParam(required = false) @NumberFormat @Positive String userId,
         @RequestParam(required = false) @NumberFormat @Positive String id,
-        @RequestParam(required = false) String title) {
+        @RequestParam(required = false) String title,
+        @RequestParam(required = false) @PositiveOrZero Integer page,
+        @RequestParam(required = false) @Positive @Max(Paging.MAX_SIZE) Integer size,
+        @RequestParam(required = false) Set<String> fields) {
+
+        AuditionPostFilterDto auditionPostFilterDto = new AuditionPostFilterDto(userId, id, title);
+        return cacheableResponses.list(CacheableResponses.POSTS, auditionService.getPosts(auditionPostFilterDto),
+            new Paging(page, size), FieldProjection.of(fields));
+    }
+
+    /**
+     * Streams audition posts based on provided filter parameters as newline delimited JSON.
+     *
+     * @param userId optional user ID filter (must be positive)
+     * @param id     optional post ID filter (must be positive)
+     * @param title  optional title filter
+     * @param page   optional zero based page number
+     * @param size   optional page size
+     * @param fields optional properties to return for each post, all when absent
+     * @return one audition post matching the filters per line
+     */
+
+    @GetMapping(value = "/posts", params = "!ids", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream audition posts - Filter data based on provided parameters")
+    public ResponseEntity<StreamingResponseBody> streamPosts(
+        @RequestParam(required = false) @NumberFormat @Positive String userId,
+        @RequestParam(required = false) @NumberFormat @Positive String id,
+        @RequestParam(required = false) String title,
+        @RequestParam(required = false) @PositiveOrZero Integer page,
+        @RequestParam(required = false) @Positive @Max(Paging.MAX_SIZE) Integer size,
+        @RequestParam(required = false) Set<String> fields) {
 
         AuditionPostFilterDto auditionPostFilterDto = new AuditionPostFilterDto(userId, id, title);
-        return auditionService.getPosts(auditionPostFilterDto);
+        return cacheableResponses.stream(CacheableResponses.POSTS, auditionService.getPosts(auditionPostFilterDto),
+            new Paging(page, size), FieldProjection.of(fields));
+    }
+
+    /**
+     * Retrieves several audition posts by their IDs in one request, instead of one request per post.
+     *
+     * @param ids the IDs of the audition posts to retrieve, comma separated or repeated (each must be positive)
+     * @return the posts found, in request order, and the IDs that were not found
+     */
+
+    @GetMapping(value = "/posts", params = "ids", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get several audition posts by Id")
+    public ResponseEntity<AuditionPostBatch> getPostsByIds(
+        @RequestParam @NotEmpty @Size(max = MAX_BATCH_IDS) List<@Positive String> ids) {
+        return cacheableResponses.ok(CacheableResponses.POST_BATCH, auditionService.getPostsByIds(ids));
     }
 
     /**
@@ -55,8 +119,8 @@ public class AuditionController {
 
     @GetMapping(value = "/posts/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get posts based on Id param")
-    public AuditionPost getPostById(@PathVariable @Positive String id) {
-        return auditionService.getPostById(id);
+    public ResponseEntity<AuditionPost> getPostById(@PathVariable @Positive String id) {
+        return cacheableResponses.ok(CacheableResponses.POST, auditionService.getPostById(id));
     }
 
     /**
@@ -68,8 +132,28 @@ public class AuditionController {
 
     @GetMapping(value = "posts/{postId}/comments", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get comments for a post")
-    public AuditionPostComments getPostComments(@PathVariable @Positive String postId) {
-        return auditionService.getPostComments(postId);
+    public ResponseEntity<AuditionPostComments> getPostComments(@PathVariable @Positive String postId) {
+        return cacheableResponses.ok(CacheableResponses.POST_COMMENTS, auditionService.getPostComments(postId));
+    }
+
+    /**
+     * Retrieves audition posts based on provided filter parameters, each with its comments embedded.
+     *
+     * @param userId optional user ID filter (must be positive)
+     * @param id     optional post ID filter (must be positive)
+     * @param title  optional title filter
+     * @return the matching posts along with their comments
+     */
+
+    @GetMapping(value = "/posts/with-comments", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get audition posts with their comments - Filter data based on provided parameters")
+    public ResponseEntity<List<AuditionPostComments>> getPostsWithComments(
+        @RequestParam(required = false) @NumberFormat @Positive String userId,
+        @RequestParam(required = false) @NumberFormat @Positive String id,
+        @RequestParam(required = false) String title) {
+        AuditionPostFilterDto auditionPostFilterDto = new AuditionPostFilterDto(userId, id, title);
+        return cacheableResponses.ok(CacheableResponses.POSTS_WITH_COMMENTS,
+            auditionService.getPostsWithComments(auditionPostFilterDto));
     }
 
     /**
@@ -79,17 +163,52 @@ public class AuditionController {
      * @param id     optional comment ID filter (must be positive)
      * @param name   optional name filter
      * @param email  optional email filter (must be a valid email address)
+     * @param page   optional zero based page number
+     * @param size   optional page size
+     * @param fields optional properties to return for each comment, all when absent
      * @return list of audition comments matching the filters
      */
 
     @GetMapping(value = "comments", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get comments for a post")
-    public List<AuditionComment> getComments(@RequestParam(required = false) @NumberFormat @Positive String postId,
+    public ResponseEntity<Object> getComments(@RequestParam(required = false) @NumberFormat @Positive String postId,
+        @RequestParam(required = false) @NumberFormat @Positive String id,
+        @RequestParam(required = false) String name,
+        @RequestParam(required = false) @Email String email,
+        @RequestParam(required = false) @PositiveOrZero Integer page,
+        @RequestParam(required = false) @Positive @Max(Paging.MAX_SIZE) Integer size,
+        @RequestParam(required = false) Set<String> fields) {
+        AuditionCommentFilterDto auditionCommentFilterDto = new AuditionCommentFilterDto(postId, id, name, email);
+        return cacheableResponses.list(CacheableResponses.COMMENTS,
+            auditionService.getComments(auditionCommentFilterDto), new Paging(page, size), FieldProjection.of(fields));
+    }
+
+    /**
+     * Streams audition comments based on provided filter parameters as newline delimited JSON.
+     *
+     * @param postId optional post ID filter (must be positive)
+     * @param id     optional comment ID filter (must be positive)
+     * @param name   optional name filter
+     * @param email  optional email filter (must be a valid email address)
+     * @param page   optional zero based page number
+     * @param size   optional page size
+     * @param fields optional properties to return for each comment, all when absent
+     * @return one audition comment matching the filters per line
+     */
+
+    @GetMapping(value = "comments", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream comments")
+    public ResponseEntity<StreamingResponseBody> streamComments(
+        @RequestParam(required = false) @NumberFormat @Positive String postId,
         @RequestParam(required = false) @NumberFormat @Positive String id,
         @RequestParam(required = false) String name,
-        @RequestParam(required = false) @Email String email) {
+        @RequestParam(required = false) @Email String email,
+        @RequestParam(required = false) @PositiveOrZero Integer page,
+        @RequestParam(required = false) @Positive @Max(Paging.MAX_SIZE) Integer size,
+        @RequestParam(required = false) Set<String> fields) {
         AuditionCommentFilterDto auditionCommentFilterDto = new AuditionCommentFilterDto(postId, id, name, email);
-        return auditionService.getComments(auditionCommentFilterDto);
+        return cacheableResponses.stream(CacheableResponses.COMMENTS,
+            auditionService.getComments(auditionCommentFilterDto), new Paging(page, size), FieldProjection.of(fields));
     }
 
 }
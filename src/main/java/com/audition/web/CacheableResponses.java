@@ -0,0 +1,137 @@
+package com.audition.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Builds {@code 200} responses carrying a weak content-hash {@code ETag} and the endpoint's {@code Cache-Control}.
+ *
+ * <p>
+ * The ETag comes from {@link SerializedResponseCache}, so a value served again from the data caches needs no
+ * serialization at all, and a new value is serialized once for both the ETag and the body. Spring MVC compares the
+ * ETag with {@code If-None-Match} before the body is written and answers {@code 304 Not Modified} on a match.
+ * </p>
+ *
+ * <p>
+ * List responses can be paged and projected. A paged response reports the size of the whole list in
+ * {@value #TOTAL_COUNT}. Streamed {@code application/x-ndjson} responses write one element per line as it is
+ * serialized, so their memory use does not grow with the list and they carry no ETag.
+ * </p>
+ */
+public class CacheableResponses {
+
+    public static final String POSTS = "posts";
+    public static final String POST = "post";
+    public static final String POST_BATCH = "postBatch";
+    public static final String POST_COMMENTS = "postComments";
+    public static final String POSTS_WITH_COMMENTS = "postsWithComments";
+    public static final String COMMENTS = "comments";
+    public static final String TOTAL_COUNT = "X-Total-Count";
+
+    /**
+     * Elements written between explicit flushes of a streamed response.
+     */
+    private static final int FLUSH_EVERY = 64;
+
+    private final SerializedResponseCache responseCache;
+    private final ObjectMapper objectMapper;
+    private final HttpCachingProperties properties;
+
+    public CacheableResponses(final SerializedResponseCache responseCache, final ObjectMapper objectMapper,
+        final HttpCachingProperties properties) {
+        this.responseCache = responseCache;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    /**
+     * Wraps a response body.
+     *
+     * @param endpoint the endpoint name, selecting the {@code Cache-Control} settings
+     * @param body     the response body
+     * @return the response
+     */
+    public <T> ResponseEntity<T> ok(final String endpoint, final T body) {
+        return ResponseEntity.ok()
+            .eTag(responseCache.get(body, this::serialize).eTag())
+            .cacheControl(properties.cacheControlFor(endpoint))
+            .body(body);
+    }
+
+    /**
+     * Wraps a page of a list as a JSON array.
+     *
+     * @param endpoint the endpoint name, selecting the {@code Cache-Control} settings
+     * @param items    the whole list
+     * @param paging   the page to return
+     * @param fields   the properties to write for each element
+     * @return the response
+     */
+    public ResponseEntity<Object> list(final String endpoint, final List<?> items, final Paging paging,
+        final FieldProjection fields) {
+        final Object body = fields.apply(paging.slice(items));
+        return listResponse(endpoint, items, paging)
+            .eTag(responseCache.get(body, this::serialize).eTag())
+            .body(body);
+    }
+
+    /**
+     * Streams a page of a list as newline delimited JSON.
+     *
+     * @param endpoint the endpoint name, selecting the {@code Cache-Control} settings
+     * @param items    the whole list
+     * @param paging   the page to return
+     * @param fields   the properties to write for each element
+     * @return the response
+     */
+    public ResponseEntity<StreamingResponseBody> stream(final String endpoint, final List<?> items,
+        final Paging paging, final FieldProjection fields) {
+        final List<?> page = paging.slice(items);
+        final ObjectWriter writer = fields.writer(objectMapper)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return listResponse(endpoint, items, paging)
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(out -> writeLines(writer, page, out));
+    }
+
+    private ResponseEntity.BodyBuilder listResponse(final String endpoint, final List<?> items, final Paging paging) {
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .cacheControl(properties.cacheControlFor(endpoint));
+        if (paging.isPaged()) {
+            response.header(TOTAL_COUNT, String.valueOf(items.size()));
+        }
+        return response;
+    }
+
+    /**
+     * The response stream is left open for Spring to complete the response.
+     */
+    static void writeLines(final ObjectWriter writer, final List<?> items, final OutputStream out)
+        throws IOException {
+        final JsonGenerator generator = writer.createGenerator(out)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .setRootValueSeparator(null);
+        try (generator) {
+            int written = 0;
+            for (final Object item : items) {
+                writer.writeValue(generator, item);
+                generator.writeRaw('\n');
+                if (++written % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            }
+        }
+    }
+
+    private byte[] serialize(final Object value) {
+        return SerializedResponseCache.toJson(objectMapper, value);
+    }
+}
@@ -0,0 +1,83 @@
+package com.audition.web;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import java.util.Set;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+/**
+ * Restricts the JSON properties written for posts and comments to those named in a {@code fields} request parameter,
+ * for example {@code fields=id,title} to leave out the bodies.
+ *
+ * <p>
+ * Posts and comments carry the {@link #FILTER} Jackson filter through the {@link Filtered} mix-in registered on the
+ * application {@code ObjectMapper}, whose default {@link #ALL_FIELDS} provider writes every property. A projection
+ * only takes effect where its own provider is used: in a {@link MappingJacksonValue} from {@link #apply} or through
+ * {@link #writer}.
+ * </p>
+ */
+public final class FieldProjection {
+
+    public static final String FILTER = "fields";
+    public static final FilterProvider ALL_FIELDS = new SimpleFilterProvider()
+        .addFilter(FILTER, SimpleBeanPropertyFilter.serializeAll());
+
+    private static final FieldProjection NONE = new FieldProjection(null);
+
+    private final FilterProvider filters;
+
+    private FieldProjection(final FilterProvider filters) {
+        this.filters = filters;
+    }
+
+    /**
+     * Creates the projection for a {@code fields} request parameter.
+     *
+     * @param fields the property names to keep, {@code null} or empty to keep every property
+     * @return the projection
+     */
+    public static FieldProjection of(final Set<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return NONE;
+        }
+        return new FieldProjection(new SimpleFilterProvider()
+            .addFilter(FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(fields)));
+    }
+
+    /**
+     * Wraps a response value so that Spring's Jackson converter writes it with the projection.
+     *
+     * @param value the response value
+     * @return {@code value} itself when every property is kept, otherwise a filtering wrapper
+     */
+    public Object apply(final Object value) {
+        if (filters == null) {
+            return value;
+        }
+        final MappingJacksonValue projected = new MappingJacksonValue(value);
+        projected.setFilters(filters);
+        return projected;
+    }
+
+    /**
+     * Returns a writer applying the projection.
+     *
+     * @param objectMapper the application object mapper
+     * @return the writer
+     */
+    public ObjectWriter writer(final ObjectMapper objectMapper) {
+        return filters == null ? objectMapper.writer() : objectMapper.writer(filters);
+    }
+
+    /**
+     * Mix-in binding a model class to the {@link #FILTER} filter.
+     */
+    @JsonFilter(FILTER)
+    public interface Filtered {
+
+    }
+}
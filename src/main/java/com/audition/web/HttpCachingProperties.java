@@ -0,0 +1,70 @@
+package com.audition.web;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.CacheControl;
+
+/**
+ * {@code Cache-Control} settings for the API responses, bound from {@code http-caching.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "http-caching")
+public class HttpCachingProperties {
+
+    /**
+     * Spec applied to endpoints without an entry in {@link #endpoints}.
+     */
+    private Spec defaults = new Spec();
+
+    /**
+     * Per-endpoint overrides keyed by endpoint name: {@code posts}, {@code post}, {@code postBatch},
+     * {@code postComments}, {@code postsWithComments} and {@code comments}.
+     */
+    private Map<String, Spec> endpoints = new LinkedHashMap<>();
+
+    /**
+     * How long clients may reuse a response built from last known good data, served while the upstream is failing.
+     * Kept short so that clients pick up fresh data soon after the upstream recovers. When not set, or zero, such
+     * responses must be revalidated on every use.
+     */
+    private Duration staleMaxAge = Duration.ofSeconds(5);
+
+    public CacheControl cacheControlFor(final String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaults).toCacheControl();
+    }
+
+    /**
+     * The {@code Cache-Control} of responses built from last known good data, replacing the endpoint's.
+     *
+     * @return the cache control
+     */
+    public CacheControl staleCacheControl() {
+        return staleMaxAge == null || staleMaxAge.isZero() ? CacheControl.noCache() : CacheControl.maxAge(staleMaxAge);
+    }
+
+    @Data
+    public static class Spec {
+
+        /**
+         * How long clients and shared caches may reuse a response without revalidating it. When not set responses
+         * must be revalidated on every use, which the ETag makes cheap.
+         */
+        private Duration maxAge;
+
+        /**
+         * How long past {@link #maxAge} a cache may keep serving the response while it revalidates in the background.
+         */
+        private Duration staleWhileRevalidate;
+
+        CacheControl toCacheControl() {
+            if (maxAge == null) {
+                return CacheControl.noCache();
+            }
+            final CacheControl cacheControl = CacheControl.maxAge(maxAge);
+            return staleWhileRevalidate == null ? cacheControl : cacheControl.staleWhileRevalidate(staleWhileRevalidate);
+        }
+    }
+}
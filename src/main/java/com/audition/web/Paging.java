@@ -0,0 +1,58 @@
+package com.audition.web;
+
+import java.util.List;
+import reactor.core.publisher.Flux;
+
+/**
+ * The page of a list response selected by the {@code page} and {@code size} request parameters.
+ *
+ * <p>
+ * Pages are numbered from zero. A request with neither parameter gets the whole list, as before paging existed; one
+ * with only {@code page} gets pages of {@link #DEFAULT_SIZE}.
+ * </p>
+ *
+ * @param page the zero based page number, may be {@code null}
+ * @param size the page size, may be {@code null}
+ */
+public record Paging(Integer page, Integer size) {
+
+    public static final int DEFAULT_SIZE = 100;
+    public static final int MAX_SIZE = 1000;
+
+    public boolean isPaged() {
+        return page != null || size != null;
+    }
+
+    /**
+     * Selects the page from a list.
+     *
+     * @param items the whole list
+     * @return a view of the page, or {@code items} itself when not paged
+     */
+    public <T> List<T> slice(final List<T> items) {
+        if (!isPaged()) {
+            return items;
+        }
+        final int from = (int) Math.min(offset(), items.size());
+        final int to = (int) Math.min((long) from + pageSize(), items.size());
+        return items.subList(from, to);
+    }
+
+    /**
+     * Selects the page from a stream, cancelling the upstream once the page is complete.
+     *
+     * @param items the whole stream
+     * @return the page
+     */
+    public <T> Flux<T> slice(final Flux<T> items) {
+        return isPaged() ? items.skip(offset()).take(pageSize()) : items;
+    }
+
+    private long offset() {
+        return (long) (page == null ? 0 : page) * pageSize();
+    }
+
+    private int pageSize() {
+        return size == null ? DEFAULT_SIZE : size;
+    }
+}
@@ -0,0 +1,61 @@
+package com.audition.web;
+
+import com.audition.web.SerializedResponseCache.SerializedResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+/**
+ * Jackson converter that writes responses from a {@link SerializedResponseCache}, so that a value served again from
+ * the data caches is copied to the output stream as bytes instead of being serialized again.
+ *
+ * <p>
+ * Such responses also carry their weak {@code ETag} and {@code Content-Length}. A value built for the request is
+ * written from the body serialized earlier for its ETag, if there was one. Every other value, including errors and
+ * serialization views, is serialized by Jackson as usual.
+ * </p>
+ */
+public class PreSerializedJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final SerializedResponseCache responseCache;
+
+    public PreSerializedJsonHttpMessageConverter(final ObjectMapper objectMapper,
+        final SerializedResponseCache responseCache) {
+        super(objectMapper);
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    protected void writeInternal(final Object object, final Type type, final HttpOutputMessage outputMessage)
+        throws IOException {
+        final SerializedResponse response;
+        try {
+            response = isSerializable(object) ? responseCache.forWrite(object,
+                value -> SerializedResponseCache.toJson(getObjectMapper(), value)) : null;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (response == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+        final HttpHeaders headers = outputMessage.getHeaders();
+        if (headers.getETag() == null) {
+            headers.setETag(response.eTag());
+        }
+        headers.setContentLength(response.body().length);
+        outputMessage.getBody().write(response.body());
+    }
+
+    /**
+     * {@link SerializedResponseCache#toJson} does not apply serialization views.
+     */
+    private static boolean isSerializable(final Object object) {
+        return !(object instanceof MappingJacksonValue wrapper) || wrapper.getSerializationView() == null;
+    }
+}
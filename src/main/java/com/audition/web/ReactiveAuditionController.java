@@ -0,0 +1,147 @@
+package com.audition.web;
+
+import com.audition.integration.AuditionIntegrationClient;
+import com.audition.model.AuditionComment;
+import com.audition.model.AuditionCommentFilterDto;
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostBatch;
+import com.audition.model.AuditionPostComments;
+import com.audition.model.AuditionPostFilterDto;
+import com.audition.service.ReactiveAuditionService;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.NumberFormat;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serves the audition endpoints from the non-blocking {@code WebClient} integration client when
+ * {@code integrationClient.type=web-client}. Handlers return {@link Mono}/{@link Flux}, so the servlet thread is
+ * released while the upstream call is in flight.
+ *
+ * <p>
+ * List endpoints stream one element per line when {@code application/x-ndjson} is accepted. The {@code fields}
+ * projection of {@link AuditionController} is not offered here: a filtering wrapper cannot be applied per element of
+ * a {@link Flux} that Spring MVC collects into a JSON array.
+ * </p>
+ */
+@RestController
+@Validated
+@ConditionalOnProperty(name = AuditionIntegrationClient.CLIENT_TYPE_PROPERTY, havingValue = "web-client")
+public class ReactiveAuditionController {
+
+    @Autowired
+    private transient ReactiveAuditionService reactiveAuditionService;
+
+    /**
+     * Retrieves audition posts based on provided filter parameters.
+     *
+     * @param userId optional user ID filter (must be positive)
+     * @param id     optional post ID filter (must be positive)
+     * @param title  optional title filter
+     * @param page   optional zero based page number
+     * @param size   optional page size
+     * @return audition posts matching the filters, as a JSON array or one per line when streaming NDJSON
+     */
+    @GetMapping(value = "/posts", params = "!ids", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Get audition posts - Filter data based on provided parameters")
+    public Flux<AuditionPost> getPosts(@RequestParam(required = false) @NumberFormat @Positive String userId,
+        @RequestParam(required = false) @NumberFormat @Positive String id,
+        @RequestParam(required = false) String title,
+        @RequestParam(required = false) @PositiveOrZero Integer page,
+        @RequestParam(required = false) @Positive @Max(Paging.MAX_SIZE) Integer size) {
+        return new Paging(page, size).slice(reactiveAuditionService.getPosts(new AuditionPostFilterDto(userId, id,
+            title)));
+    }
+
+    /**
+     * Retrieves several audition posts by their IDs in one request, instead of one request per post.
+     *
+     * @param ids the IDs of the audition posts to retrieve, comma separated or repeated (each must be positive)
+     * @return the posts found, in request order, and the IDs that were not found
+     */
+    @GetMapping(value = "/posts", params = "ids", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get several audition posts by Id")
+    public Mono<AuditionPostBatch> getPostsByIds(
+        @RequestParam @NotEmpty @Size(max = AuditionController.MAX_BATCH_IDS) List<@Positive String> ids) {
+        return reactiveAuditionService.getPostsByIds(ids);
+    }
+
+    /**
+     * Retrieves a specific audition post by its ID.
+     *
+     * @param id the ID of the audition post to retrieve (must be positive)
+     * @return the audition post with the specified ID
+     */
+    @GetMapping(value = "/posts/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get posts based on Id param")
+    public Mono<AuditionPost> getPostById(@PathVariable @Positive String id) {
+        return reactiveAuditionService.getPostById(id);
+    }
+
+    /**
+     * Retrieves comments for a specific audition post.
+     *
+     * @param postId the ID of the audition post for which to retrieve comments (must be positive)
+     * @return the post along with its comments
+     */
+    @GetMapping(value = "posts/{postId}/comments", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get comments for a post")
+    public Mono<AuditionPostComments> getPostComments(@PathVariable @Positive String postId) {
+        return reactiveAuditionService.getPostComments(postId);
+    }
+
+    /**
+     * Retrieves audition posts based on provided filter parameters, each with its comments embedded.
+     *
+     * @param userId optional user ID filter (must be positive)
+     * @param id     optional post ID filter (must be positive)
+     * @param title  optional title filter
+     * @return the matching posts along with their comments
+     */
+    @GetMapping(value = "/posts/with-comments", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get audition posts with their comments - Filter data based on provided parameters")
+    public Mono<List<AuditionPostComments>> getPostsWithComments(
+        @RequestParam(required = false) @NumberFormat @Positive String userId,
+        @RequestParam(required = false) @NumberFormat @Positive String id,
+        @RequestParam(required = false) String title) {
+        return reactiveAuditionService.getPostsWithComments(new AuditionPostFilterDto(userId, id, title));
+    }
+
+    /**
+     * Retrieves audition comments based on provided filter parameters.
+     *
+     * @param postId optional post ID filter (must be positive)
+     * @param id     optional comment ID filter (must be positive)
+     * @param name   optional name filter
+     * @param email  optional email filter (must be a valid email address)
+     * @param page   optional zero based page number
+     * @param size   optional page size
+     * @return audition comments matching the filters, as a JSON array or one per line when streaming NDJSON
+     */
+    @GetMapping(value = "comments", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Get comments for a post")
+    public Flux<AuditionComment> getComments(@RequestParam(required = false) @NumberFormat @Positive String postId,
+        @RequestParam(required = false) @NumberFormat @Positive String id,
+        @RequestParam(required = false) String name,
+        @RequestParam(required = false) @Email String email,
+        @RequestParam(required = false) @PositiveOrZero Integer page,
+        @RequestParam(required = false) @Positive @Max(Paging.MAX_SIZE) Integer size) {
+        return new Paging(page, size).slice(reactiveAuditionService.getComments(new AuditionCommentFilterDto(postId, id,
+            name, email)));
+    }
+}
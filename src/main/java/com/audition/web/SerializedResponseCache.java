@@ -0,0 +1,130 @@
+package com.audition.web;
+
+import com.audition.common.cache.CachedValues;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.UncheckedIOException;
+import java.util.function.Function;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Caches the serialized JSON body and weak ETag of response values, keyed by the identity of the value.
+ *
+ * <p>
+ * Values returned from the upstream data caches are shared instances, so identity is the cache key: a hit means the
+ * very same object is being written again. Keys are held weakly, so an entry disappears once the data cache has
+ * evicted or refreshed the value it was built from and nothing else references it. Invalidation therefore follows
+ * the data cache without any explicit coupling.
+ * </p>
+ *
+ * <p>
+ * Only instances in {@link CachedValues} are cached. A value built for one request, such as a filtered list or a
+ * page, would never hit and would only push shared entries out. When such a value needs an ETag it is serialized
+ * once and the body is handed to the converter through a small separate map, which the write empties again.
+ * </p>
+ */
+public class SerializedResponseCache {
+
+    private static final String CACHE_NAME = "serializedResponses";
+    private static final long PENDING_SIZE = 1000;
+
+    private final boolean enabled;
+    private final Cache<Object, SerializedResponse> responses;
+    private final Cache<Object, SerializedResponse> pending;
+
+    public SerializedResponseCache(final boolean enabled, final long maximumSize, final MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.responses = Caffeine.newBuilder()
+            .weakKeys()
+            .maximumSize(maximumSize)
+            .recordStats()
+            .build();
+        this.pending = Caffeine.newBuilder()
+            .weakKeys()
+            .maximumSize(PENDING_SIZE)
+            .build();
+        if (meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, responses, CACHE_NAME);
+        }
+    }
+
+    /**
+     * Returns the serialized form of {@code value}, serializing it on the first call for a cached instance. Other
+     * values are serialized on every call and kept only until {@link #forWrite} takes them.
+     *
+     * @param value      the response value
+     * @param serializer writes the value as JSON
+     * @return the body and its ETag
+     */
+    public SerializedResponse get(final Object value, final Function<Object, byte[]> serializer) {
+        if (!enabled) {
+            return SerializedResponse.of(serializer.apply(value));
+        }
+        if (CachedValues.contains(value)) {
+            return responses.get(value, key -> SerializedResponse.of(serializer.apply(key)));
+        }
+        final SerializedResponse response = SerializedResponse.of(serializer.apply(value));
+        pending.put(value, response);
+        return response;
+    }
+
+    /**
+     * Returns the serialized form of {@code value} for writing the response body, serializing a cached instance on
+     * first use and taking the body already built by {@link #get} for any other value.
+     *
+     * @param value      the response value
+     * @param serializer writes the value as JSON
+     * @return the body and its ETag, or {@code null} if the value should be serialized as usual
+     */
+    public SerializedResponse forWrite(final Object value, final Function<Object, byte[]> serializer) {
+        if (!enabled) {
+            return null;
+        }
+        if (CachedValues.contains(value)) {
+            return responses.get(value, key -> SerializedResponse.of(serializer.apply(key)));
+        }
+        return pending.asMap().remove(value);
+    }
+
+    /**
+     * Serializes a response value the way Spring's Jackson converter would, honouring the filters of a
+     * {@link MappingJacksonValue}.
+     *
+     * @param objectMapper the application object mapper
+     * @param value        the response value
+     * @return the JSON bytes
+     */
+    static byte[] toJson(final ObjectMapper objectMapper, final Object value) {
+        try {
+            if (value instanceof MappingJacksonValue wrapper) {
+                return (wrapper.getFilters() == null ? objectMapper.writer() : objectMapper.writer(wrapper.getFilters()))
+                    .writeValueAsBytes(wrapper.getValue());
+            }
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * A serialized response body with its weak ETag, an MD5 hex digest of the bytes in quotes. The body is shared by
+     * every response written from the entry and must not be modified.
+     *
+     * <p>
+     * The validator is weak because the response may be gzip encoded on the way out, which changes the bytes a strong
+     * validator would describe. Tomcat leaves responses with a strong ETag uncompressed for that reason.
+     * {@code If-None-Match} uses the weak comparison, so {@code 304} responses are unaffected.
+     * </p>
+     */
+    public record SerializedResponse(byte[] body, String eTag) {
+
+        static SerializedResponse of(final byte[] body) {
+            return new SerializedResponse(body, "W/\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        }
+    }
+}
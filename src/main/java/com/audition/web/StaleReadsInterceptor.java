@@ -0,0 +1,37 @@
+package com.audition.web;
+
+import com.audition.common.cache.StaleReads;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Opens a {@link StaleReads} tracker for every request and keeps it as a request attribute, so that
+ * {@code StaleResponseAdvice} can add the staleness headers when the body is written, including after an async
+ * dispatch.
+ */
+public class StaleReadsInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String ATTRIBUTE = StaleReads.class.getName();
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response,
+        final Object handler) {
+        if (request.getAttribute(ATTRIBUTE) == null) {
+            request.setAttribute(ATTRIBUTE, StaleReads.open());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(final HttpServletRequest request, final HttpServletResponse response,
+        final Object handler) {
+        StaleReads.close();
+    }
+
+    @Override
+    public void afterCompletion(final HttpServletRequest request, final HttpServletResponse response,
+        final Object handler, final Exception ex) {
+        StaleReads.close();
+    }
+}
@@ -2,11 +2,13 @@ package com.audition.web.advice;
 
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.METHOD_NOT_ALLOWED;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 
 import com.audition.common.exception.PostNotFoundException;
 import com.audition.common.exception.SystemException;
 import com.audition.common.logging.AuditionLogger;
 import io.micrometer.common.util.StringUtils;
+import java.util.concurrent.RejectedExecutionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -126,6 +128,8 @@ public class ExceptionControllerAdvice extends ResponseEntityExceptionHandler {
             return ((HttpClientErrorException) exception).getStatusCode();
         } else if (exception instanceof HttpRequestMethodNotSupportedException) {
             return METHOD_NOT_ALLOWED;
+        } else if (exception instanceof RejectedExecutionException) {
+            return SERVICE_UNAVAILABLE;
         }
         return INTERNAL_SERVER_ERROR;
     }
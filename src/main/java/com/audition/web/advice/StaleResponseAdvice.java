@@ -0,0 +1,50 @@
+package com.audition.web.advice;
+
+import com.audition.common.cache.StaleReads;
+import com.audition.web.HttpCachingProperties;
+import com.audition.web.StaleReadsInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Marks responses built from last known good data, served because the upstream was failing, with a
+ * {@code Warning: 110} header and an {@code Age} header giving the age in seconds of the oldest value used. Their
+ * {@code Cache-Control} is replaced with the short {@link HttpCachingProperties#getStaleMaxAge() staleMaxAge}, so that
+ * clients do not keep the stale data for the endpoint's full {@code max-age}.
+ */
+@ControllerAdvice
+public class StaleResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
+    @Autowired
+    private transient HttpCachingProperties cachingProperties;
+
+    @Override
+    public boolean supports(final MethodParameter returnType,
+        final Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(final Object body, final MethodParameter returnType,
+        final MediaType selectedContentType, final Class<? extends HttpMessageConverter<?>> selectedConverterType,
+        final ServerHttpRequest request, final ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+            && servletRequest.getServletRequest().getAttribute(StaleReadsInterceptor.ATTRIBUTE) instanceof StaleReads reads
+            && reads.isStale()) {
+            response.getHeaders().set(HttpHeaders.WARNING, STALE_WARNING);
+            response.getHeaders().set(HttpHeaders.AGE, String.valueOf(reads.getMaxAge().toSeconds()));
+            response.getHeaders().setCacheControl(cachingProperties.staleCacheControl());
+        }
+        return body;
+    }
+}
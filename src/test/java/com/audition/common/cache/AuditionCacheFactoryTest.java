@@ -0,0 +1,122 @@
+package com.audition.common.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AuditionCacheFactoryTest {
+
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {
+    };
+
+    @Test
+    void shouldLoadOnceAndServeFromCache() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AtomicInteger loads = new AtomicInteger();
+        LoadingCache<String, String> cache = new AuditionCacheFactory(new AuditionCacheProperties(), registry)
+            .build("post", key -> "post-" + key + "-" + loads.incrementAndGet());
+
+        assertEquals("post-1-1", cache.get("1"));
+        assertEquals("post-1-1", cache.get("1"));
+        assertEquals(1, loads.get());
+        assertNotNull(registry.find("cache.gets").tag("cache", "post").tag("result", "hit").functionCounter());
+    }
+
+    @Test
+    void shouldDelegateEveryLookupWhenDisabled() {
+        AuditionCacheProperties properties = new AuditionCacheProperties();
+        properties.setEnabled(false);
+        AtomicInteger loads = new AtomicInteger();
+        LoadingCache<String, String> cache = new AuditionCacheFactory(properties, new SimpleMeterRegistry())
+            .build("post", key -> "post-" + loads.incrementAndGet());
+
+        cache.get("1");
+        cache.get("1");
+        cache.cleanUp();
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldLoadFromSharedTierFilledByAnotherNode() {
+        // Mock data
+        Ticker ticker = Ticker.systemTicker();
+        InMemorySharedCache shared = new InMemorySharedCache(100, ticker);
+        AtomicInteger loadsA = new AtomicInteger();
+        AtomicInteger loadsB = new AtomicInteger();
+        LoadingCache<String, List<String>> nodeA = node(shared, ticker)
+            .build("posts", STRING_LIST.getType(), key -> List.of("post-" + loadsA.incrementAndGet()));
+        LoadingCache<String, List<String>> nodeB = node(shared, ticker)
+            .build("posts", STRING_LIST.getType(), key -> List.of("post-" + loadsB.incrementAndGet()));
+
+        List<String> loaded = nodeA.get("1");
+        List<String> decoded = nodeB.get("1");
+
+        assertEquals(List.of("post-1"), loaded);
+        assertEquals(loaded, decoded);
+        assertNotSame(loaded, decoded);
+        assertThrows(UnsupportedOperationException.class, () -> decoded.add("post-2"));
+        assertEquals(1, loadsA.get());
+        assertEquals(0, loadsB.get());
+    }
+
+    @Test
+    void shouldKeepCachesWithoutValueTypeNodeLocal() {
+        // Mock data
+        Ticker ticker = Ticker.systemTicker();
+        InMemorySharedCache shared = new InMemorySharedCache(100, ticker);
+        AtomicInteger loads = new AtomicInteger();
+        LoadingCache<String, String> nodeA = node(shared, ticker).build("post", key -> "a" + loads.incrementAndGet());
+        LoadingCache<String, String> nodeB = node(shared, ticker).build("post", key -> "b" + loads.incrementAndGet());
+
+        assertEquals("a1", nodeA.get("1"));
+        assertEquals("b2", nodeB.get("1"));
+        assertNull(shared.get("post", "1"));
+    }
+
+    @Test
+    void shouldInvalidateOtherNodesWhenRefreshChangesValue() {
+        // Mock data
+        AtomicLong nanos = new AtomicLong();
+        Ticker ticker = nanos::get;
+        InMemorySharedCache shared = new InMemorySharedCache(100, ticker);
+        AtomicReference<String> upstream = new AtomicReference<>("v1");
+        AtomicInteger loadsB = new AtomicInteger();
+        LoadingCache<String, String> nodeA = node(shared, ticker).build("post", String.class, key -> upstream.get());
+        LoadingCache<String, String> nodeB = node(shared, ticker)
+            .build("post", String.class, key -> "b" + loadsB.incrementAndGet());
+        nodeA.get("1");
+        nodeB.get("1");
+
+        // let the shared copy expire, as it does one refresh interval after it was stored
+        nanos.addAndGet(Duration.ofMillis(300).toNanos());
+        upstream.set("v2");
+        nodeA.refresh("1").join();
+
+        assertNull(nodeB.getIfPresent("1"));
+        assertEquals("v2", nodeB.get("1"));
+        assertEquals(0, loadsB.get());
+    }
+
+    private static AuditionCacheFactory node(InMemorySharedCache shared, Ticker ticker) {
+        AuditionCacheProperties properties = new AuditionCacheProperties();
+        properties.getDefaults().setRefreshAfterWrite(Duration.ofMillis(200));
+        return new AuditionCacheFactory(properties, new SimpleMeterRegistry(), Runnable::run, shared, shared,
+            new ObjectMapper(), ticker);
+    }
+}
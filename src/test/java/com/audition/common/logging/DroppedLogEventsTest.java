@@ -0,0 +1,44 @@
+package com.audition.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class DroppedLogEventsTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger logger = context.getLogger("com.audition.test");
+
+    @Test
+    void shouldCountDroppedEventsByLevel() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DroppedLogEvents droppedLogEvents = new DroppedLogEvents();
+        droppedLogEvents.bindTo(registry);
+        long infoBefore = DroppedLogEvents.dropped(Level.INFO);
+        long warnBefore = DroppedLogEvents.dropped(Level.WARN);
+
+        // a second instance, as logback creates one per appender
+        DroppedLogEvents listener = new DroppedLogEvents();
+        listener.eventAppendFailed(null, event(Level.INFO), new IllegalStateException("ring buffer full"));
+        listener.eventAppendFailed(null, event(Level.INFO), new IllegalStateException("ring buffer full"));
+        listener.eventAppendFailed(null, event(Level.WARN), new IllegalStateException("ring buffer full"));
+
+        FunctionCounter info = registry.find(DroppedLogEvents.DROPPED).tag("level", "INFO").functionCounter();
+        assertNotNull(info);
+        assertEquals(infoBefore + 2, info.count());
+        assertEquals(warnBefore + 1, DroppedLogEvents.dropped(Level.WARN));
+    }
+
+    private LoggingEvent event(Level level) {
+        // Mock data
+        return new LoggingEvent(Logger.class.getName(), logger, level, "GET /posts returned {}", null,
+            new Object[] {200});
+    }
+}
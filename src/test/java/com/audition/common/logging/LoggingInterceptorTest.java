@@ -0,0 +1,77 @@
+package com.audition.common.logging;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoggingInterceptorTest {
+
+    private static final String BODY = "[{\"id\":1,\"title\":\"a fairly long title\"}]";
+
+    @Test
+    void shouldPassResponseThroughWhenBodyCaptureDisabled() throws IOException {
+        HttpLoggingProperties properties = new HttpLoggingProperties();
+        MockClientHttpResponse response = new MockClientHttpResponse(BODY.getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+        ClientHttpRequestExecution execution = (request, body) -> response;
+
+        ClientHttpResponse result = new LoggingInterceptor(properties)
+            .intercept(request(), new byte[0], execution);
+
+        assertSame(response, result);
+    }
+
+    @Test
+    void shouldStreamFullBodyWhileCapturingTruncatedCopy() throws IOException {
+        HttpLoggingProperties properties = new HttpLoggingProperties();
+        properties.setCaptureBody(true);
+        properties.setBodySampleRate(1.0);
+        properties.setMaxBodyBytes(8);
+        MockClientHttpResponse response = new MockClientHttpResponse(BODY.getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+        ClientHttpRequestExecution execution = (request, body) -> response;
+
+        ClientHttpResponse result = new LoggingInterceptor(properties)
+            .intercept(request(), new byte[0], execution);
+
+        assertTrue(result instanceof BodyCapturingClientHttpResponse);
+        assertEquals(BODY, StreamUtils.copyToString(result.getBody(), StandardCharsets.UTF_8));
+        CapturingInputStream captured = (CapturingInputStream) result.getBody();
+        assertEquals(BODY.length(), captured.getTotalBytes());
+        assertEquals(BODY.substring(0, 8), captured.getCapturedBody());
+        assertTrue(captured.isTruncated());
+        result.close();
+    }
+
+    @Test
+    void shouldUseEndpointSampleRateOverride() throws IOException {
+        HttpLoggingProperties properties = new HttpLoggingProperties();
+        properties.setCaptureBody(true);
+        properties.setBodySampleRate(1.0);
+        properties.getEndpoints().put("/posts/*/comments", 0.0);
+        MockClientHttpResponse response = new MockClientHttpResponse(BODY.getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+        ClientHttpRequestExecution execution = (request, body) -> response;
+
+        ClientHttpResponse result = new LoggingInterceptor(properties)
+            .intercept(new MockClientHttpRequest(HttpMethod.GET, URI.create("http://localhost/posts/1/comments")),
+                new byte[0], execution);
+
+        assertFalse(result instanceof BodyCapturingClientHttpResponse);
+    }
+
+    private static MockClientHttpRequest request() {
+        return new MockClientHttpRequest(HttpMethod.GET, URI.create("http://localhost/posts"));
+    }
+}
@@ -0,0 +1,52 @@
+package com.audition.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MaxLevelFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger logger = context.getLogger("com.audition.test");
+
+    @Test
+    void shouldDenyEventsAboveMaxLevel() {
+        MaxLevelFilter filter = new MaxLevelFilter();
+        filter.setLevel("INFO");
+        filter.start();
+
+        assertEquals(FilterReply.NEUTRAL, filter.decide(event(Level.DEBUG)));
+        assertEquals(FilterReply.NEUTRAL, filter.decide(event(Level.INFO)));
+        assertEquals(FilterReply.DENY, filter.decide(event(Level.WARN)));
+        assertEquals(FilterReply.DENY, filter.decide(event(Level.ERROR)));
+    }
+
+    @Test
+    void shouldFallBackToInfoForUnknownLevel() {
+        MaxLevelFilter filter = new MaxLevelFilter();
+        filter.setLevel("LOUD");
+        filter.start();
+
+        assertEquals(FilterReply.NEUTRAL, filter.decide(event(Level.INFO)));
+        assertEquals(FilterReply.DENY, filter.decide(event(Level.WARN)));
+    }
+
+    @Test
+    void shouldStayNeutralUntilStarted() {
+        MaxLevelFilter filter = new MaxLevelFilter();
+        filter.setLevel("INFO");
+
+        assertEquals(FilterReply.NEUTRAL, filter.decide(event(Level.ERROR)));
+    }
+
+    private LoggingEvent event(Level level) {
+        // Mock data
+        return new LoggingEvent(Logger.class.getName(), logger, level, "GET /posts returned {}", null,
+            new Object[] {200});
+    }
+}
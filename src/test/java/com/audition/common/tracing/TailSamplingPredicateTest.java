@@ -0,0 +1,83 @@
+package com.audition.common.tracing;
+
+import io.micrometer.tracing.exporter.FinishedSpan;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TailSamplingPredicateTest {
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Test
+    void shouldKeepFailedSpans() {
+        TailSamplingPredicate predicate = new TailSamplingPredicate(properties(0));
+
+        assertTrue(predicate.isExportable(span(Duration.ofMillis(5), Map.of(), new IllegalStateException("boom"))));
+        assertTrue(predicate.isExportable(span(Duration.ofMillis(5),
+            Map.of(TailSamplingPredicate.OUTCOME_TAG, TailSamplingPredicate.SERVER_ERROR), null)));
+        assertTrue(predicate.isExportable(span(Duration.ofMillis(5), Map.of(TailSamplingPredicate.ERROR_TAG, "x"), null)));
+    }
+
+    @Test
+    void shouldDropFailedSpansWhenNotKept() {
+        TailSamplingProperties properties = properties(0);
+        properties.setKeepErrors(false);
+
+        assertFalse(new TailSamplingPredicate(properties)
+            .isExportable(span(Duration.ofMillis(5), Map.of(), new IllegalStateException("boom"))));
+    }
+
+    @Test
+    void shouldKeepSlowSpans() {
+        TailSamplingPredicate predicate = new TailSamplingPredicate(properties(0));
+
+        assertTrue(predicate.isExportable(span(Duration.ofMillis(500), Map.of(), null)));
+        assertFalse(predicate.isExportable(span(Duration.ofMillis(499), Map.of(), null)));
+    }
+
+    @Test
+    void shouldSampleWholeTracesByTraceId() {
+        TailSamplingPredicate predicate = new TailSamplingPredicate(properties(0.01));
+
+        long sampled = IntStream.range(0, 100_000)
+            .mapToObj(i -> String.format("%016x%016x", i * 31L, i * 0x9E3779B97F4A7C15L))
+            .filter(predicate::sampled)
+            .count();
+
+        assertTrue(sampled > 700 && sampled < 1300, "sampled " + sampled);
+        assertEquals(predicate.sampled("463ac35c9f6413ad48485a3953bb6124"),
+            predicate.sampled("463ac35c9f6413ad48485a3953bb6124"));
+    }
+
+    @Test
+    void shouldKeepEverythingAtFullProbability() {
+        assertTrue(new TailSamplingPredicate(properties(1)).isExportable(span(Duration.ZERO, Map.of(), null)));
+    }
+
+    private static TailSamplingProperties properties(double probability) {
+        TailSamplingProperties properties = new TailSamplingProperties();
+        properties.setEnabled(true);
+        properties.setProbability(probability);
+        return properties;
+    }
+
+    private static FinishedSpan span(Duration duration, Map<String, String> tags, Throwable error) {
+        // Mock data
+        FinishedSpan span = mock(FinishedSpan.class);
+        when(span.getStartTimestamp()).thenReturn(START);
+        when(span.getEndTimestamp()).thenReturn(START.plus(duration));
+        when(span.getTags()).thenReturn(tags);
+        when(span.getError()).thenReturn(error);
+        when(span.getTraceId()).thenReturn("463ac35c9f6413ad48485a3953bb6124");
+        return span;
+    }
+}
@@ -0,0 +1,46 @@
+package com.audition.configuration;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RejectingVirtualThreadExecutorTest {
+
+    @Test
+    void shouldRejectInsteadOfWaitingWhenLimitReached() throws Exception {
+        RejectingVirtualThreadExecutor executor = new RejectingVirtualThreadExecutor("test-vt-", 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> running = CompletableFuture.runAsync(() -> await(release), executor);
+
+        assertThrows(RejectedExecutionException.class, () -> CompletableFuture.runAsync(() -> { }, executor));
+
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        // the permit is released just after the future completes
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        CompletableFuture<Boolean> next = null;
+        while (next == null) {
+            try {
+                next = CompletableFuture.supplyAsync(() -> Thread.currentThread().isVirtual(), executor);
+            } catch (RejectedExecutionException e) {
+                assertTrue(System.nanoTime() < deadline, "permit never released");
+                Thread.onSpinWait();
+            }
+        }
+        assertTrue(next.get(5, TimeUnit.SECONDS));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
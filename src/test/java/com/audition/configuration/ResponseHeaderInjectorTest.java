@@ -0,0 +1,59 @@
+package com.audition.configuration;
+
+import brave.propagation.CurrentTraceContext;
+import brave.propagation.ThreadLocalCurrentTraceContext;
+import brave.propagation.TraceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class ResponseHeaderInjectorTest {
+
+    private final CurrentTraceContext currentTraceContext = ThreadLocalCurrentTraceContext.create();
+    private final ResponseHeaderInjector injector = new ResponseHeaderInjector();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(injector, "currentTraceContext", currentTraceContext);
+    }
+
+    @Test
+    void shouldAddTraceAndSpanIdsOfCurrentRequest() throws Exception {
+        // Mock data
+        TraceContext context = TraceContext.newBuilder().traceIdHigh(1L).traceId(0xABCL).spanId(0x12L).build();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        try (CurrentTraceContext.Scope scope = currentTraceContext.newScope(context)) {
+            injector.doFilter(new MockHttpServletRequest("GET", "/posts"), response, new MockFilterChain());
+        }
+
+        assertEquals("00000000000000010000000000000abc", response.getHeader(ResponseHeaderInjector.TRACE_ID_HEADER));
+        assertEquals("0000000000000012", response.getHeader(ResponseHeaderInjector.SPAN_ID_HEADER));
+    }
+
+    @Test
+    void shouldLeaveResponseUntouchedWithoutTrace() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        injector.doFilter(new MockHttpServletRequest("GET", "/posts"), response, new MockFilterChain());
+
+        assertFalse(response.containsHeader(ResponseHeaderInjector.TRACE_ID_HEADER));
+        assertFalse(response.containsHeader(ResponseHeaderInjector.SPAN_ID_HEADER));
+    }
+
+    @Test
+    void shouldPassThroughWhenTracingIsDisabled() throws Exception {
+        ReflectionTestUtils.setField(injector, "currentTraceContext", null);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        injector.doFilter(new MockHttpServletRequest("GET", "/posts"), response, new MockFilterChain());
+
+        assertFalse(response.containsHeader(ResponseHeaderInjector.TRACE_ID_HEADER));
+    }
+}
@@ -0,0 +1,76 @@
+package com.audition.integration;
+
+import com.audition.common.cache.StaleReads;
+import com.audition.common.exception.SystemException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LastKnownGoodStoreTest {
+
+    private LastKnownGoodStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new LastKnownGoodStore();
+        ReflectionTestUtils.setField(store, "enabled", true);
+        ReflectionTestUtils.setField(store, "maximumSize", 100L);
+        ReflectionTestUtils.setField(store, "maxStale", Duration.ofHours(1));
+        ReflectionTestUtils.setField(store, "meterRegistry", new SimpleMeterRegistry());
+        store.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        StaleReads.close();
+    }
+
+    @Test
+    void shouldServeStaleValueWhenUpstreamFails() {
+        StaleReads reads = StaleReads.open();
+        store.remember("post", "1", "post-1");
+
+        String stale = store.staleOrThrow("post", "1", new HttpServerErrorException(HttpStatus.BAD_GATEWAY));
+
+        assertEquals("post-1", stale);
+        assertTrue(reads.isStale());
+    }
+
+    @Test
+    void shouldServeStaleValueWhenCircuitIsOpen() {
+        store.remember("post", "1", "post-1");
+
+        assertEquals("post-1", store.staleOrThrow("post", "1",
+            new SystemException("Upstream temporarily unavailable", "Service Unavailable", 503)));
+    }
+
+    @Test
+    void shouldRethrowClientErrors() {
+        StaleReads reads = StaleReads.open();
+        store.remember("post", "1", "post-1");
+        SystemException notFound = new SystemException("Cannot find a Post with id 1", "Resource Not Found", 404);
+
+        assertSame(notFound, assertThrows(SystemException.class, () -> store.staleOrThrow("post", "1", notFound)));
+        assertFalse(reads.isStale());
+    }
+
+    @Test
+    void shouldRethrowWhenNothingWasStored() {
+        HttpServerErrorException failure = new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+
+        assertSame(failure, assertThrows(HttpServerErrorException.class,
+            () -> store.staleOrThrow("post", "1", failure)));
+    }
+}
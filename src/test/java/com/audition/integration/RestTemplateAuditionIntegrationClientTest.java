@@ -0,0 +1,255 @@
+package com.audition.integration;
+
+import com.audition.common.cache.AuditionCacheFactory;
+import com.audition.common.cache.AuditionCacheProperties;
+import com.audition.model.AuditionComment;
+import com.audition.model.AuditionPost;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.client.ResponseCreator;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class RestTemplateAuditionIntegrationClientTest {
+
+    private static final String POSTS_URL = "http://upstream/posts";
+    private static final String COMMENTS_URL = "http://upstream/comments";
+    private static final Map<String, Integer> COMMENT_COUNTS = Map.of("1", 2, "3", 1);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+    private final AuditionCacheProperties properties = new AuditionCacheProperties();
+    private final List<List<String>> requestedIds = new CopyOnWriteArrayList<>();
+    private RestTemplate restTemplate;
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldFetchPostsInBatchesOfMaxIdsPerRequest() {
+        // Mock data
+        server.expect(ExpectedCount.times(3), requestTo(startsWith(POSTS_URL)))
+            .andRespond(request -> posts(request, "title"));
+
+        Map<String, AuditionPost> posts = client().getPostsByIds(List.of("1", "2", "3", "4", "5"));
+
+        server.verify();
+        assertEquals(Set.of("1", "2", "3", "4", "5"), posts.keySet());
+        assertEquals(List.of(1, 2, 2), requestedIds.stream().map(List::size).sorted().toList());
+        assertEquals(Set.of("1", "2", "3", "4", "5"),
+            requestedIds.stream().flatMap(List::stream).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void shouldBoundConcurrentBatchRequests() {
+        // Mock data
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        server.expect(ExpectedCount.times(4), requestTo(startsWith(POSTS_URL))).andRespond(request -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+                return posts(request, "title");
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+
+        Map<String, AuditionPost> posts = client().getPostsByIds(List.of("1", "2", "3", "4", "5", "6", "7", "8"));
+
+        server.verify();
+        assertEquals(8, posts.size());
+        assertTrue(maxInFlight.get() <= 2, "at most maxConcurrentRequests batches in flight");
+    }
+
+    @Test
+    void shouldPreserveRequestedOrder() {
+        // Mock data
+        server.expect(ExpectedCount.times(3), requestTo(startsWith(POSTS_URL)))
+            .andRespond(request -> posts(request, "title"));
+
+        Map<String, AuditionPost> posts = client().getPostsByIds(List.of("5", "3", "1", "4", "2"));
+
+        assertEquals(List.of("5", "3", "1", "4", "2"), new ArrayList<>(posts.keySet()));
+        posts.forEach((id, post) -> assertEquals(id, String.valueOf(post.getId())));
+    }
+
+    @Test
+    void shouldFallBackToLastKnownGoodPostsOfFailedBatchOnly() {
+        // Mock data
+        properties.setEnabled(false);
+        RestTemplateAuditionIntegrationClient client = client();
+        server.expect(ExpectedCount.times(2), requestTo(startsWith(POSTS_URL)))
+            .andRespond(request -> posts(request, "v1"));
+        client.getPostsByIds(List.of("1", "2", "3", "4"));
+        server.reset();
+        server.expect(ExpectedCount.manyTimes(), requestTo(startsWith(POSTS_URL))).andRespond(
+            request -> ids(request, "id").contains("3") ? withServerError().createResponse(request)
+                : posts(request, "v2"));
+
+        Map<String, AuditionPost> posts = client.getPostsByIds(List.of("1", "2", "3", "4"));
+
+        assertEquals(List.of("1", "2", "3", "4"), new ArrayList<>(posts.keySet()));
+        assertEquals("v2", posts.get("1").getTitle());
+        assertEquals("v2", posts.get("2").getTitle());
+        assertEquals("v1", posts.get("3").getTitle());
+        assertEquals("v1", posts.get("4").getTitle());
+        assertThrows(HttpServerErrorException.class, () -> client.getPostsByIds(List.of("3", "9")));
+    }
+
+    @Test
+    void shouldGroupCommentsByPostIdWithEmptyListsForPostsWithoutComments() {
+        // Mock data
+        server.expect(ExpectedCount.times(2), requestTo(startsWith(COMMENTS_URL)))
+            .andRespond(request -> comments(request, "body"));
+
+        Map<String, List<AuditionComment>> comments = client().getCommentsByPostIds(List.of("1", "2", "3"));
+
+        server.verify();
+        assertEquals(List.of("1", "2", "3"), new ArrayList<>(comments.keySet()));
+        assertEquals(2, comments.get("1").size());
+        assertTrue(comments.get("1").stream().allMatch(comment -> comment.getPostId() == 1));
+        assertEquals(List.of(), comments.get("2"));
+        assertEquals(1, comments.get("3").size());
+        assertEquals(3, comments.get("3").get(0).getPostId());
+    }
+
+    @Test
+    void shouldFallBackToLastKnownGoodCommentsOfFailedBatchOnly() {
+        // Mock data
+        properties.setEnabled(false);
+        RestTemplateAuditionIntegrationClient client = client();
+        server.expect(ExpectedCount.times(2), requestTo(startsWith(COMMENTS_URL)))
+            .andRespond(request -> comments(request, "v1"));
+        client.getCommentsByPostIds(List.of("1", "2", "3", "4"));
+        server.reset();
+        server.expect(ExpectedCount.manyTimes(), requestTo(startsWith(COMMENTS_URL))).andRespond(
+            request -> ids(request, "postId").contains("3") ? withServerError().createResponse(request)
+                : comments(request, "v2"));
+
+        Map<String, List<AuditionComment>> comments = client.getCommentsByPostIds(List.of("1", "2", "3", "4"));
+
+        assertEquals(List.of("1", "2", "3", "4"), new ArrayList<>(comments.keySet()));
+        assertEquals("v2", comments.get("1").get(0).getBody());
+        assertEquals(List.of(), comments.get("2"));
+        assertEquals("v1", comments.get("3").get(0).getBody());
+        assertEquals(List.of(), comments.get("4"));
+        assertThrows(HttpServerErrorException.class, () -> client.getCommentsByPostIds(List.of("3", "9")));
+    }
+
+    private RestTemplateAuditionIntegrationClient client() {
+        UpstreamResilience resilience = mock(UpstreamResilience.class);
+        when(resilience.call(anyString(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        LastKnownGoodStore lastKnownGood = new LastKnownGoodStore();
+        ReflectionTestUtils.setField(lastKnownGood, "enabled", true);
+        ReflectionTestUtils.setField(lastKnownGood, "maximumSize", 100L);
+        ReflectionTestUtils.setField(lastKnownGood, "maxStale", Duration.ofHours(1));
+        ReflectionTestUtils.setField(lastKnownGood, "meterRegistry", new SimpleMeterRegistry());
+        lastKnownGood.init();
+
+        RestTemplateAuditionIntegrationClient client = new RestTemplateAuditionIntegrationClient();
+        ReflectionTestUtils.setField(client, "postUrl", POSTS_URL);
+        ReflectionTestUtils.setField(client, "commentsUrl", COMMENTS_URL);
+        ReflectionTestUtils.setField(client, "postRestTemplate", restTemplate);
+        ReflectionTestUtils.setField(client, "commentRestTemplate", restTemplate);
+        ReflectionTestUtils.setField(client, "cacheFactory",
+            new AuditionCacheFactory(properties, new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(client, "singleFlight", new SingleFlight(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(client, "resilience", resilience);
+        ReflectionTestUtils.setField(client, "lastKnownGood", lastKnownGood);
+        ReflectionTestUtils.setField(client, "upstreamExecutor", executor);
+        ReflectionTestUtils.setField(client, "maxIdsPerRequest", 2);
+        ReflectionTestUtils.setField(client, "maxConcurrentRequests", 2);
+        client.initCaches();
+        return client;
+    }
+
+    private ClientHttpResponse posts(ClientHttpRequest request, String title)
+        throws IOException {
+        List<String> ids = ids(request, "id");
+        requestedIds.add(ids);
+        List<AuditionPost> posts = new ArrayList<>();
+        for (String id : ids) {
+            AuditionPost post = new AuditionPost();
+            post.setId(Integer.parseInt(id));
+            post.setTitle(title);
+            posts.add(post);
+        }
+        return json(request, posts);
+    }
+
+    /**
+     * Post 1 has two comments, post 3 has one and every other post has none.
+     */
+    private ClientHttpResponse comments(ClientHttpRequest request, String body) throws IOException {
+        List<AuditionComment> comments = new ArrayList<>();
+        for (String postId : ids(request, "postId")) {
+            for (int i = 0; i < COMMENT_COUNTS.getOrDefault(postId, 0); i++) {
+                AuditionComment comment = new AuditionComment();
+                comment.setPostId(Integer.parseInt(postId));
+                comment.setId(comments.size() + 1);
+                comment.setBody(body);
+                comments.add(comment);
+            }
+        }
+        return json(request, comments);
+    }
+
+    private ClientHttpResponse json(ClientHttpRequest request, Object body)
+        throws IOException {
+        ResponseCreator creator = withSuccess(objectMapper.writeValueAsString(body), MediaType.APPLICATION_JSON);
+        return creator.createResponse(request);
+    }
+
+    private static List<String> ids(ClientHttpRequest request, String name) {
+        return UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams().get(name);
+    }
+}
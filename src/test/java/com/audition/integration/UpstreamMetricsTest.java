@@ -0,0 +1,113 @@
+package com.audition.integration;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UpstreamMetricsTest {
+
+    private static final String BODY = "[{\"id\":1},{\"id\":2}]";
+
+    private SimpleMeterRegistry registry;
+    private UpstreamMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new UpstreamMetrics();
+        ReflectionTestUtils.setField(metrics, "meterRegistry", registry);
+    }
+
+    @Test
+    void shouldRecordTimeSizeAndElementsOfSuccessfulExchange() {
+        // Mock data
+        ClientHttpRequestExecution execution = (request, body) ->
+            new MockClientHttpResponse(BODY.getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+
+        List<String> posts = metrics.timed(UpstreamResilience.GET_POSTS, () -> exchange(execution)).get();
+
+        assertEquals(2, posts.size());
+        Timer timer = registry.find(UpstreamMetrics.REQUESTS)
+            .tags("operation", "getPosts", "outcome", "SUCCESS", "status", "2xx").timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+        DistributionSummary size = registry.find(UpstreamMetrics.RESPONSE_SIZE).tag("operation", "getPosts").summary();
+        assertEquals(BODY.length(), size.totalAmount());
+        DistributionSummary elements = registry.find(UpstreamMetrics.RESPONSE_ELEMENTS).summary();
+        assertEquals(2, elements.totalAmount());
+    }
+
+    @Test
+    void shouldClassifyServerErrors() {
+        assertThrows(HttpServerErrorException.class, () -> metrics.timed(UpstreamResilience.GET_POST_BY_ID,
+            () -> {
+                throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+            }).get());
+
+        assertNotNull(registry.find(UpstreamMetrics.REQUESTS)
+            .tags("operation", "getPostById", "outcome", "SERVER_ERROR", "status", "5xx").timer());
+        assertEquals(0, registry.find(UpstreamMetrics.RESPONSE_ELEMENTS).summaries().size());
+    }
+
+    @Test
+    void shouldClassifyReactiveTimeouts() {
+        Mono<String> timedOut = Mono.error(new ResourceAccessException("Read timed out",
+            new SocketTimeoutException("Read timed out")));
+
+        StepVerifier.create(metrics.timed(UpstreamResilience.GET_COMMENTS, timedOut))
+            .expectError(ResourceAccessException.class)
+            .verify();
+
+        assertNotNull(registry.find(UpstreamMetrics.REQUESTS)
+            .tags("operation", "getComments", "outcome", "TIMEOUT", "status", "none").timer());
+    }
+
+    @Test
+    void shouldNeverTagWithUriOrId() {
+        ClientHttpRequestExecution execution = (request, body) ->
+            new MockClientHttpResponse(BODY.getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+
+        metrics.timed(UpstreamResilience.GET_POST_BY_ID, () -> exchange(execution)).get();
+
+        for (Meter meter : registry.getMeters()) {
+            meter.getId().getTags().forEach(tag -> assertFalse(tag.getValue().contains("/posts")));
+        }
+    }
+
+    private List<String> exchange(ClientHttpRequestExecution execution) {
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("http://localhost/posts/1"));
+        try (ClientHttpResponse response = metrics.interceptor().intercept(request, new byte[0], execution)) {
+            StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8);
+            return List.of("1", "2");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.audition.integration;
+
+import com.audition.common.exception.SystemException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UpstreamResilienceTest {
+
+    private UpstreamResilience resilience;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        resilience = new UpstreamResilience();
+        UpstreamFailurePredicate upstreamFailure = new UpstreamFailurePredicate();
+        ReflectionTestUtils.setField(resilience, "circuitBreakerRegistry", CircuitBreakerRegistry.of(
+            CircuitBreakerConfig.custom()
+                .slidingWindowSize(2)
+                .minimumNumberOfCalls(2)
+                .recordException(upstreamFailure)
+                .build()));
+        ReflectionTestUtils.setField(resilience, "bulkheadRegistry", BulkheadRegistry.ofDefaults());
+        ReflectionTestUtils.setField(resilience, "retryRegistry", RetryRegistry.of(
+            RetryConfig.custom()
+                .maxAttempts(2)
+                .waitDuration(Duration.ofMillis(1))
+                .retryOnException(upstreamFailure)
+                .build()));
+        ReflectionTestUtils.setField(resilience, "timeLimiterRegistry", TimeLimiterRegistry.of(
+            TimeLimiterConfig.custom().timeoutDuration(Duration.ofMillis(50)).build()));
+        UpstreamMetrics metrics = new UpstreamMetrics();
+        registry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(metrics, "meterRegistry", registry);
+        ReflectionTestUtils.setField(resilience, "metrics", metrics);
+        ReflectionTestUtils.setField(resilience, "retryBudget", Duration.ofSeconds(5));
+    }
+
+    @Test
+    void shouldRetryServerErrors() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = resilience.call(UpstreamResilience.GET_POST_BY_ID, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+            }
+            return "post";
+        });
+
+        assertEquals("post", result);
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void shouldNotRetryClientErrors() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(HttpClientErrorException.class, () -> resilience.call(UpstreamResilience.GET_POST_BY_ID, () -> {
+            attempts.incrementAndGet();
+            throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+        }));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void shouldFailFastWhenCircuitIsOpen() {
+        // both attempts of the retried call are recorded, which fills the window and opens the circuit
+        assertThrows(HttpServerErrorException.class, () -> resilience.call(UpstreamResilience.GET_POSTS, () -> {
+            throw new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+        }));
+        AtomicInteger attempts = new AtomicInteger();
+
+        SystemException exception = assertThrows(SystemException.class,
+            () -> resilience.call(UpstreamResilience.GET_POSTS, attempts::incrementAndGet));
+
+        assertEquals(503, exception.getStatusCode());
+        assertEquals(0, attempts.get());
+    }
+
+    @Test
+    void shouldTimeOutSlowReactiveCalls() {
+        Mono<String> slow = Mono.delay(Duration.ofSeconds(5)).thenReturn("post");
+
+        StepVerifier.create(resilience.decorate(UpstreamResilience.GET_POST_BY_ID, slow))
+            .expectErrorSatisfies(e -> assertEquals(504, ((SystemException) e).getStatusCode()))
+            .verify(Duration.ofSeconds(5));
+        Timer timeouts = registry.find(UpstreamMetrics.REQUESTS)
+            .tags("operation", "getPostById", "outcome", "TIMEOUT").timer();
+        assertNotNull(timeouts);
+        assertEquals(2, timeouts.count());
+        assertNull(registry.find(UpstreamMetrics.REQUESTS).tags("outcome", "CANCELLED").timer());
+    }
+
+    @Test
+    void shouldNotRetryOnceBudgetIsSpent() {
+        ReflectionTestUtils.setField(resilience, "retryBudget", Duration.ZERO);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(HttpServerErrorException.class, () -> resilience.call(UpstreamResilience.GET_POST_BY_ID, () -> {
+            attempts.incrementAndGet();
+            throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+        }));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void shouldNotRetryReactiveCallsOnceBudgetIsSpent() {
+        ReflectionTestUtils.setField(resilience, "retryBudget", Duration.ZERO);
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> failing = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(new HttpServerErrorException(HttpStatus.BAD_GATEWAY));
+        });
+
+        StepVerifier.create(resilience.decorate(UpstreamResilience.GET_POST_BY_ID, failing))
+            .expectError(HttpServerErrorException.class)
+            .verify(Duration.ofSeconds(5));
+        assertEquals(1, attempts.get());
+    }
+}
@@ -0,0 +1,255 @@
+package com.audition.integration;
+
+import com.audition.common.cache.AuditionCacheFactory;
+import com.audition.common.cache.AuditionCacheProperties;
+import com.audition.model.AuditionComment;
+import com.audition.model.AuditionPost;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WebClientAuditionIntegrationClientTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final Map<String, Integer> COMMENT_COUNTS = Map.of("1", 2, "3", 1);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AuditionCacheProperties properties = new AuditionCacheProperties();
+    private final List<List<String>> requestedIds = new CopyOnWriteArrayList<>();
+    private final MockWebServer server = new MockWebServer();
+    private volatile Function<RecordedRequest, MockResponse> upstream;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return upstream.apply(request);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    void shouldFetchPostsInBatchesOfMaxIdsPerRequest() {
+        // Mock data
+        upstream = request -> posts(request, "title");
+
+        Map<String, AuditionPost> posts = client().getPostsByIds(List.of("1", "2", "3", "4", "5")).block(TIMEOUT);
+
+        assertEquals(Set.of("1", "2", "3", "4", "5"), posts.keySet());
+        assertEquals(List.of(1, 2, 2), requestedIds.stream().map(List::size).sorted().toList());
+        assertEquals(Set.of("1", "2", "3", "4", "5"),
+            requestedIds.stream().flatMap(List::stream).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void shouldBoundConcurrentBatchRequests() {
+        // Mock data
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        upstream = request -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+                return posts(request, "title");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new MockResponse().setResponseCode(503);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        };
+
+        Map<String, AuditionPost> posts = client().getPostsByIds(List.of("1", "2", "3", "4", "5", "6", "7", "8"))
+            .block(TIMEOUT);
+
+        assertEquals(8, posts.size());
+        assertEquals(4, server.getRequestCount());
+        assertTrue(maxInFlight.get() <= 2, "at most maxConcurrentRequests batches in flight");
+    }
+
+    @Test
+    void shouldPreserveRequestedOrder() {
+        // Mock data
+        upstream = request -> posts(request, "title");
+
+        Map<String, AuditionPost> posts = client().getPostsByIds(List.of("5", "3", "1", "4", "2")).block(TIMEOUT);
+
+        assertEquals(List.of("5", "3", "1", "4", "2"), new ArrayList<>(posts.keySet()));
+        posts.forEach((id, post) -> assertEquals(id, String.valueOf(post.getId())));
+    }
+
+    @Test
+    void shouldFallBackToLastKnownGoodPostsOfFailedBatchOnly() {
+        // Mock data
+        properties.setEnabled(false);
+        WebClientAuditionIntegrationClient client = client();
+        upstream = request -> posts(request, "v1");
+        client.getPostsByIds(List.of("1", "2", "3", "4")).block(TIMEOUT);
+        // the failing batch answers last, so that the other batch has completed
+        upstream = request -> ids(request, "id").contains("3")
+            ? new MockResponse().setResponseCode(500).setHeadersDelay(100, TimeUnit.MILLISECONDS)
+            : posts(request, "v2");
+
+        Map<String, AuditionPost> posts = client.getPostsByIds(List.of("1", "2", "3", "4")).block(TIMEOUT);
+
+        assertEquals(List.of("1", "2", "3", "4"), new ArrayList<>(posts.keySet()));
+        assertEquals("v2", posts.get("1").getTitle());
+        assertEquals("v2", posts.get("2").getTitle());
+        assertEquals("v1", posts.get("3").getTitle());
+        assertEquals("v1", posts.get("4").getTitle());
+        assertThrows(WebClientResponseException.class,
+            () -> client.getPostsByIds(List.of("3", "9")).block(TIMEOUT));
+    }
+
+    @Test
+    void shouldGroupCommentsByPostIdWithEmptyListsForPostsWithoutComments() {
+        // Mock data
+        upstream = request -> comments(request, "body");
+
+        Map<String, List<AuditionComment>> comments = client().getCommentsByPostIds(List.of("1", "2", "3"))
+            .block(TIMEOUT);
+
+        assertEquals(2, server.getRequestCount());
+        assertEquals(List.of("1", "2", "3"), new ArrayList<>(comments.keySet()));
+        assertEquals(2, comments.get("1").size());
+        assertTrue(comments.get("1").stream().allMatch(comment -> comment.getPostId() == 1));
+        assertEquals(List.of(), comments.get("2"));
+        assertEquals(1, comments.get("3").size());
+        assertEquals(3, comments.get("3").get(0).getPostId());
+    }
+
+    @Test
+    void shouldFallBackToLastKnownGoodCommentsOfFailedBatchOnly() {
+        // Mock data
+        properties.setEnabled(false);
+        WebClientAuditionIntegrationClient client = client();
+        upstream = request -> comments(request, "v1");
+        client.getCommentsByPostIds(List.of("1", "2", "3", "4")).block(TIMEOUT);
+        // the failing batch answers last, so that the other batch has completed
+        upstream = request -> ids(request, "postId").contains("3")
+            ? new MockResponse().setResponseCode(500).setHeadersDelay(100, TimeUnit.MILLISECONDS)
+            : comments(request, "v2");
+
+        Map<String, List<AuditionComment>> comments = client.getCommentsByPostIds(List.of("1", "2", "3", "4"))
+            .block(TIMEOUT);
+
+        assertEquals(List.of("1", "2", "3", "4"), new ArrayList<>(comments.keySet()));
+        assertEquals("v2", comments.get("1").get(0).getBody());
+        assertEquals(List.of(), comments.get("2"));
+        assertEquals("v1", comments.get("3").get(0).getBody());
+        assertEquals(List.of(), comments.get("4"));
+        assertThrows(WebClientResponseException.class,
+            () -> client.getCommentsByPostIds(List.of("3", "9")).block(TIMEOUT));
+    }
+
+    private WebClientAuditionIntegrationClient client() {
+        UpstreamResilience resilience = mock(UpstreamResilience.class);
+        when(resilience.decorate(anyString(), any())).thenAnswer(invocation -> invocation.getArgument(1));
+        LastKnownGoodStore lastKnownGood = new LastKnownGoodStore();
+        ReflectionTestUtils.setField(lastKnownGood, "enabled", true);
+        ReflectionTestUtils.setField(lastKnownGood, "maximumSize", 100L);
+        ReflectionTestUtils.setField(lastKnownGood, "maxStale", Duration.ofHours(1));
+        ReflectionTestUtils.setField(lastKnownGood, "meterRegistry", new SimpleMeterRegistry());
+        lastKnownGood.init();
+
+        WebClient webClient = WebClient.create();
+        WebClientAuditionIntegrationClient client = new WebClientAuditionIntegrationClient();
+        ReflectionTestUtils.setField(client, "postUrl", server.url("/posts").toString());
+        ReflectionTestUtils.setField(client, "commentsUrl", server.url("/comments").toString());
+        ReflectionTestUtils.setField(client, "postWebClient", webClient);
+        ReflectionTestUtils.setField(client, "commentWebClient", webClient);
+        ReflectionTestUtils.setField(client, "cacheFactory",
+            new AuditionCacheFactory(properties, new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(client, "singleFlight", new SingleFlight(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(client, "resilience", resilience);
+        ReflectionTestUtils.setField(client, "lastKnownGood", lastKnownGood);
+        ReflectionTestUtils.setField(client, "maxIdsPerRequest", 2);
+        ReflectionTestUtils.setField(client, "maxConcurrentRequests", 2);
+        client.initCaches();
+        return client;
+    }
+
+    private MockResponse posts(RecordedRequest request, String title) {
+        List<String> ids = ids(request, "id");
+        requestedIds.add(ids);
+        List<AuditionPost> posts = new ArrayList<>();
+        for (String id : ids) {
+            AuditionPost post = new AuditionPost();
+            post.setId(Integer.parseInt(id));
+            post.setTitle(title);
+            posts.add(post);
+        }
+        return json(posts);
+    }
+
+    /**
+     * Post 1 has two comments, post 3 has one and every other post has none.
+     */
+    private MockResponse comments(RecordedRequest request, String body) {
+        List<AuditionComment> comments = new ArrayList<>();
+        for (String postId : ids(request, "postId")) {
+            for (int i = 0; i < COMMENT_COUNTS.getOrDefault(postId, 0); i++) {
+                AuditionComment comment = new AuditionComment();
+                comment.setPostId(Integer.parseInt(postId));
+                comment.setId(comments.size() + 1);
+                comment.setBody(body);
+                comments.add(comment);
+            }
+        }
+        return json(comments);
+    }
+
+    private MockResponse json(Object body) {
+        try {
+            return new MockResponse()
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .setBody(objectMapper.writeValueAsString(body));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<String> ids(RecordedRequest request, String name) {
+        return request.getRequestUrl().queryParameterValues(name);
+    }
+}
@@ -0,0 +1,84 @@
+package com.audition.service;
+
+import com.audition.model.AuditionComment;
+import com.audition.model.AuditionCommentFilterDto;
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostFilterDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuditionDatasetTest {
+
+    private AuditionDataset dataset;
+
+    @BeforeEach
+    void setUp() {
+        // Mock data
+        dataset = AuditionDataset.of(
+            List.of(post(1, 1, "first"), post(2, 1, "second"), post(3, 2, "first")),
+            List.of(comment(1, 1, "alice@example.com"), comment(2, 1, "bob@example.com"),
+                comment(3, 2, "alice@example.com")));
+    }
+
+    @Test
+    void shouldFilterPostsOnEveryGivenField() {
+        assertEquals(List.of(1, 2), postIds(dataset.findPosts(new AuditionPostFilterDto("1", null, null))));
+        assertEquals(List.of(1, 3), postIds(dataset.findPosts(new AuditionPostFilterDto(null, null, "first"))));
+        assertEquals(List.of(3), postIds(dataset.findPosts(new AuditionPostFilterDto("2", null, "first"))));
+        assertEquals(3, dataset.findPosts(new AuditionPostFilterDto(null, null, null)).size());
+    }
+
+    @Test
+    void shouldMatchNothingForNonNumericIds() {
+        assertTrue(dataset.findPosts(new AuditionPostFilterDto("abc", null, null)).isEmpty());
+        assertTrue(dataset.findPost("abc").isEmpty());
+        assertTrue(dataset.commentsForPost("abc").isEmpty());
+    }
+
+    @Test
+    void shouldFilterCommentsOnEveryGivenField() {
+        assertEquals(2, dataset.commentsForPost("1").size());
+        assertEquals(2, dataset.findComments(new AuditionCommentFilterDto(null, null, null, "alice@example.com"))
+            .size());
+        assertEquals(1, dataset.findComments(new AuditionCommentFilterDto("2", null, null, "alice@example.com"))
+            .size());
+        assertEquals(3, dataset.findComments(new AuditionCommentFilterDto(null, null, null, null)).size());
+    }
+
+    @Test
+    void shouldRebuildModelsFromOffHeapColumns() {
+        AuditionDataset offHeap = AuditionDataset.of(List.of(post(1, 1, "first")),
+            List.of(comment(1, 1, "alice@example.com")), true);
+
+        assertEquals(post(1, 1, "first"), offHeap.findPost("1").orElseThrow());
+        assertEquals(List.of(comment(1, 1, "alice@example.com")), offHeap.commentsForPost("1"));
+    }
+
+    private static List<Integer> postIds(final List<AuditionPost> posts) {
+        return posts.stream().map(AuditionPost::getId).toList();
+    }
+
+    private static AuditionPost post(final int id, final int userId, final String title) {
+        AuditionPost post = new AuditionPost();
+        post.setId(id);
+        post.setUserId(userId);
+        post.setTitle(title);
+        post.setBody("body " + id);
+        return post;
+    }
+
+    private static AuditionComment comment(final int id, final int postId, final String email) {
+        AuditionComment comment = new AuditionComment();
+        comment.setId(id);
+        comment.setPostId(postId);
+        comment.setName("comment " + id);
+        comment.setEmail(email);
+        comment.setBody("body " + id);
+        return comment;
+    }
+}
@@ -1,5 +1,6 @@
 package com.audition.service;
 
+import com.audition.common.exception.SystemException;
 import com.audition.integration.AuditionIntegrationClient;
 
 import com.audition.model.AuditionCommentFilterDto;
@@ -7,17 +8,23 @@ import com.audition.model.AuditionComment;
 import com.audition.model.AuditionPost;
 import com.audition.model.AuditionPostComments;
 import com.audition.model.AuditionPostFilterDto;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
@@ -30,9 +37,18 @@ public class AuditionServiceTest {
     @InjectMocks
     private transient AuditionService auditionService;
 
+    private final transient ExecutorService executor = Executors.newFixedThreadPool(2);
+
     @BeforeEach
     public void setup() {
         MockitoAnnotations.initMocks(this);
+        ReflectionTestUtils.setField(auditionService, "upstreamExecutor", executor);
+        ReflectionTestUtils.setField(auditionService, "postCommentsTimeout", Duration.ofSeconds(2));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
     }
 
     @Test
@@ -116,6 +132,33 @@ public class AuditionServiceTest {
         assertEquals("Comment 2", postComments.getComments().get(1).getBody());
     }
 
+    @Test
+    public void testGetPostCommentsPropagatesNotFound() {
+        // Mock data
+        when(auditionIntegrationClient.getPostById("99"))
+            .thenThrow(new SystemException("Cannot find a Post with id 99", "Resource Not Found", 404));
+        when(auditionIntegrationClient.getPostComments("99")).thenReturn(List.of());
+
+        // Call service method and verify
+        SystemException exception = assertThrows(SystemException.class, () -> auditionService.getPostComments("99"));
+        assertEquals(404, exception.getStatusCode());
+    }
+
+    @Test
+    public void testGetPostCommentsTimesOut() {
+        // Mock data
+        ReflectionTestUtils.setField(auditionService, "postCommentsTimeout", Duration.ofMillis(50));
+        when(auditionIntegrationClient.getPostById("1")).thenAnswer(invocation -> {
+            Thread.sleep(1000);
+            return new AuditionPost();
+        });
+        when(auditionIntegrationClient.getPostComments("1")).thenReturn(List.of());
+
+        // Call service method and verify
+        SystemException exception = assertThrows(SystemException.class, () -> auditionService.getPostComments("1"));
+        assertEquals(504, exception.getStatusCode());
+    }
+
     @Test
     public void testGetComments() {
         // Mock data
@@ -0,0 +1,275 @@
+package com.audition.service;
+
+import com.audition.common.cache.AuditionCacheFactory;
+import com.audition.common.cache.AuditionCacheProperties;
+import com.audition.integration.AuditionIntegrationClient;
+import com.audition.integration.LastKnownGoodStore;
+import com.audition.integration.RestTemplateAuditionIntegrationClient;
+import com.audition.integration.SingleFlight;
+import com.audition.integration.UpstreamResilience;
+import com.audition.model.AuditionComment;
+import com.audition.model.AuditionPost;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.availability.ApplicationAvailabilityAutoConfiguration;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class CacheWarmUpTest {
+
+    @TempDir
+    private Path directory;
+
+    // starts the application in the background, the warm-up itself runs on its own threads
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AuditionIntegrationClient auditionIntegrationClient = mock(AuditionIntegrationClient.class);
+    private AuditionCacheFactory cacheFactory;
+
+    @BeforeEach
+    void setUp() {
+        cacheFactory = new AuditionCacheFactory(new AuditionCacheProperties(), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldWarmUpHotKeysPersistedByPreviousRun() {
+        // Mock data
+        LoadingCache<String, String> postCache = cacheFactory.build(AuditionIntegrationClient.POST_CACHE,
+            id -> "post-" + id);
+        postCache.get("1");
+        postCache.get("2");
+        warmUp("hot-keys", Duration.ofSeconds(5)).persistHotKeys();
+
+        warmUp("hot-keys", Duration.ofSeconds(5)).run();
+
+        verify(auditionIntegrationClient).getPostsByIds(argThat(ids -> Set.copyOf(ids).equals(Set.of("1", "2"))));
+        verify(auditionIntegrationClient, never()).getCommentsByPostIds(any());
+    }
+
+    @Test
+    void shouldWarmUpFullDataset() {
+        // Mock data
+        AuditionPost post1 = new AuditionPost();
+        post1.setId(1);
+        AuditionPost post2 = new AuditionPost();
+        post2.setId(2);
+        when(auditionIntegrationClient.getPosts(any())).thenReturn(List.of(post1, post2));
+
+        warmUp(CacheWarmUp.FULL, Duration.ofSeconds(5)).run();
+
+        verify(auditionIntegrationClient).getPostsByIds(List.of("1", "2"));
+        verify(auditionIntegrationClient).getCommentsByPostIds(List.of("1", "2"));
+        verify(auditionIntegrationClient).getComments(any());
+    }
+
+    @Test
+    void shouldWarmUpFullDatasetWhenNoHotKeysWerePersisted() {
+        // Mock data
+        AuditionPost post = new AuditionPost();
+        post.setId(1);
+        when(auditionIntegrationClient.getPosts(any())).thenReturn(List.of(post));
+
+        warmUp("hot-keys", Duration.ofSeconds(5)).run();
+
+        verify(auditionIntegrationClient).getPostsByIds(List.of("1"));
+        verify(auditionIntegrationClient).getCommentsByPostIds(List.of("1"));
+        verify(auditionIntegrationClient).getComments(any());
+    }
+
+    @Test
+    void shouldRefuseTrafficUntilWarmUpCompletes() throws Exception {
+        // Mock data
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(auditionIntegrationClient.getPosts(any())).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+        AtomicReference<ConfigurableApplicationContext> starting = new AtomicReference<>();
+        ApplicationContextInitializer<ConfigurableApplicationContext> beans = context -> {
+            starting.set(context);
+            context.getBeanFactory().registerSingleton("auditionIntegrationClient", auditionIntegrationClient);
+            context.getBeanFactory().registerSingleton("cacheFactory", cacheFactory);
+        };
+        SpringApplication application = new SpringApplication(WarmUpApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.addInitializers(beans);
+
+        CompletableFuture<ConfigurableApplicationContext> started = CompletableFuture.supplyAsync(
+            () -> application.run("--spring.config.name=cache-warm-up-test", "--warmUp.enabled=true",
+                "--warmUp.mode=full", "--warmUp.hotKeysFile=" + directory.resolve("hot-keys.tsv")), executor);
+
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        assertEquals(ReadinessState.REFUSING_TRAFFIC,
+            starting.get().getBean(ApplicationAvailability.class).getReadinessState());
+        release.countDown();
+        try (ConfigurableApplicationContext context = started.get(5, TimeUnit.SECONDS)) {
+            assertEquals(ReadinessState.ACCEPTING_TRAFFIC,
+                context.getBean(ApplicationAvailability.class).getReadinessState());
+        }
+    }
+
+    @Test
+    void shouldCompleteOnBoundedUpstreamPool() {
+        // Mock data, a pool as small as the number of warm-up loads, and bulk loads fanned out into batches on it
+        ThreadPoolTaskExecutor upstreamExecutor = new ThreadPoolTaskExecutor();
+        upstreamExecutor.setCorePoolSize(2);
+        upstreamExecutor.setMaxPoolSize(2);
+        upstreamExecutor.setQueueCapacity(256);
+        upstreamExecutor.initialize();
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        // one unfiltered list of each, then four single-id batches of posts and four of comments
+        server.expect(ExpectedCount.times(10), requestTo(startsWith("http://upstream/")))
+            .andRespond(CacheWarmUpTest::upstream);
+        CacheWarmUp warmUp = warmUp(CacheWarmUp.FULL, Duration.ofSeconds(2), client(restTemplate, upstreamExecutor));
+
+        try {
+            assertTimeoutPreemptively(Duration.ofSeconds(5), warmUp::run);
+            server.verify();
+        } finally {
+            upstreamExecutor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldStopWaitingAfterTimeout() {
+        // Mock data
+        when(auditionIntegrationClient.getPosts(any())).thenAnswer(invocation -> {
+            Thread.sleep(5000);
+            return List.of();
+        });
+
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> warmUp(CacheWarmUp.FULL, Duration.ofMillis(100)).run());
+    }
+
+    private CacheWarmUp warmUp(String mode, Duration timeout) {
+        return warmUp(mode, timeout, auditionIntegrationClient);
+    }
+
+    private CacheWarmUp warmUp(String mode, Duration timeout, AuditionIntegrationClient client) {
+        CacheWarmUp warmUp = new CacheWarmUp();
+        ReflectionTestUtils.setField(warmUp, "auditionIntegrationClient", client);
+        ReflectionTestUtils.setField(warmUp, "cacheFactory", cacheFactory);
+        ReflectionTestUtils.setField(warmUp, "mode", mode);
+        ReflectionTestUtils.setField(warmUp, "topN", 10);
+        ReflectionTestUtils.setField(warmUp, "timeout", timeout);
+        ReflectionTestUtils.setField(warmUp, "hotKeysFile", directory.resolve("hot-keys.tsv"));
+        return warmUp;
+    }
+
+    private AuditionIntegrationClient client(RestTemplate restTemplate, ThreadPoolTaskExecutor upstreamExecutor) {
+        UpstreamResilience resilience = mock(UpstreamResilience.class);
+        when(resilience.call(anyString(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        LastKnownGoodStore lastKnownGood = new LastKnownGoodStore();
+        ReflectionTestUtils.setField(lastKnownGood, "enabled", true);
+        ReflectionTestUtils.setField(lastKnownGood, "maximumSize", 100L);
+        ReflectionTestUtils.setField(lastKnownGood, "maxStale", Duration.ofHours(1));
+        ReflectionTestUtils.setField(lastKnownGood, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.invokeMethod(lastKnownGood, "init");
+
+        RestTemplateAuditionIntegrationClient client = new RestTemplateAuditionIntegrationClient();
+        ReflectionTestUtils.setField(client, "postUrl", "http://upstream/posts");
+        ReflectionTestUtils.setField(client, "commentsUrl", "http://upstream/comments");
+        ReflectionTestUtils.setField(client, "postRestTemplate", restTemplate);
+        ReflectionTestUtils.setField(client, "commentRestTemplate", restTemplate);
+        ReflectionTestUtils.setField(client, "cacheFactory", cacheFactory);
+        ReflectionTestUtils.setField(client, "singleFlight", new SingleFlight(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(client, "resilience", resilience);
+        ReflectionTestUtils.setField(client, "lastKnownGood", lastKnownGood);
+        ReflectionTestUtils.setField(client, "upstreamExecutor", upstreamExecutor);
+        ReflectionTestUtils.setField(client, "maxIdsPerRequest", 1);
+        ReflectionTestUtils.setField(client, "maxConcurrentRequests", 2);
+        ReflectionTestUtils.invokeMethod(client, "initCaches");
+        return client;
+    }
+
+    /**
+     * Four posts with one comment each, for unfiltered lists and for multi-value id queries.
+     */
+    private static ClientHttpResponse upstream(ClientHttpRequest request) throws IOException {
+        UriComponentsBuilder uri = UriComponentsBuilder.fromUri(request.getURI());
+        List<String> postIds = uri.build().getQueryParams().getOrDefault(
+            request.getURI().getPath().endsWith("/posts") ? "id" : "postId",
+            IntStream.rangeClosed(1, 4).mapToObj(String::valueOf).toList());
+        List<Object> body = new ArrayList<>();
+        for (String postId : postIds) {
+            if (request.getURI().getPath().endsWith("/posts")) {
+                AuditionPost post = new AuditionPost();
+                post.setId(Integer.parseInt(postId));
+                body.add(post);
+            } else {
+                AuditionComment comment = new AuditionComment();
+                comment.setId(Integer.parseInt(postId));
+                comment.setPostId(Integer.parseInt(postId));
+                body.add(comment);
+            }
+        }
+        return withSuccess(json(body), MediaType.APPLICATION_JSON).createResponse(request);
+    }
+
+    private static String json(Object body) throws JsonProcessingException {
+        return new ObjectMapper().writeValueAsString(body);
+    }
+
+    @Configuration
+    @Import({ApplicationAvailabilityAutoConfiguration.class, CacheWarmUp.class})
+    static class WarmUpApplication {
+    }
+}
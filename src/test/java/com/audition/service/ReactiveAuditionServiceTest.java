@@ -0,0 +1,69 @@
+package com.audition.service;
+
+import com.audition.common.exception.SystemException;
+import com.audition.integration.ReactiveAuditionIntegrationClient;
+import com.audition.model.AuditionComment;
+import com.audition.model.AuditionPost;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+class ReactiveAuditionServiceTest {
+
+    @Mock
+    private transient ReactiveAuditionIntegrationClient reactiveAuditionIntegrationClient;
+
+    @InjectMocks
+    private transient ReactiveAuditionService reactiveAuditionService;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(reactiveAuditionService, "postCommentsTimeout", Duration.ofSeconds(1));
+    }
+
+    @Test
+    void shouldCombinePostAndComments() {
+        // Mock data
+        AuditionPost post = new AuditionPost();
+        post.setId(1);
+        post.setTitle("Test Post");
+        AuditionComment comment = new AuditionComment();
+        comment.setId(7);
+        when(reactiveAuditionIntegrationClient.getPostById("1")).thenReturn(Mono.just(post));
+        when(reactiveAuditionIntegrationClient.getPostComments("1")).thenReturn(Flux.just(comment));
+
+        // Call service method and verify
+        StepVerifier.create(reactiveAuditionService.getPostComments("1"))
+            .assertNext(postComments -> {
+                assertEquals(1, postComments.getPostId());
+                assertEquals("Test Post", postComments.getTitle());
+                assertEquals(7, postComments.getComments().get(0).getId());
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldMapDeadlineToGatewayTimeout() {
+        // Mock data
+        when(reactiveAuditionIntegrationClient.getPostById("1")).thenReturn(Mono.never());
+        when(reactiveAuditionIntegrationClient.getPostComments("1")).thenReturn(Flux.empty());
+
+        // Call service method and verify
+        StepVerifier.withVirtualTime(() -> reactiveAuditionService.getPostComments("1"))
+            .thenAwait(Duration.ofSeconds(2))
+            .expectErrorSatisfies(e -> assertEquals(504, ((SystemException) e).getStatusCode()))
+            .verify();
+    }
+}
@@ -1,7 +1,9 @@
 package com.audition.web;
 
+import com.audition.common.cache.StaleReads;
 import com.audition.model.AuditionComment;
 import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostBatch;
 import com.audition.model.AuditionPostComments;
 import com.audition.service.AuditionService;
 import org.junit.jupiter.api.Assertions;
@@ -10,12 +12,17 @@ import org.mockito.ArgumentMatchers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.mockito.Mockito.when;
 
@@ -80,4 +87,132 @@ class AuditionControllerTest {
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(MockMvcResultMatchers.status().isOk());
     }
+
+    @Test
+    void shouldReturnNotModifiedForMatchingETag() throws Exception {
+        // Mock the service response
+        AuditionPost auditionPost = new AuditionPost();
+        auditionPost.setId(1);
+        when(auditionService.getPostById("1")).thenReturn(auditionPost);
+
+        // Perform GET request, then repeat it conditionally and verify the response
+        String eTag = mockMvc.perform(MockMvcRequestBuilders.get("/posts/1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.CACHE_CONTROL))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        // weak, so that Tomcat still compresses the response
+        Assertions.assertTrue(eTag.startsWith("W/\""), eTag);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/posts/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.content().string(""));
+    }
+
+    @Test
+    void shouldShortenCacheLifetimeOfStaleResponses() throws Exception {
+        // Mock the service response, served from last known good data
+        AuditionPost auditionPost = new AuditionPost();
+        auditionPost.setId(1);
+        when(auditionService.getPostById("1")).thenAnswer(invocation -> {
+            StaleReads.record(Duration.ofMinutes(2));
+            return auditionPost;
+        });
+
+        // Perform GET request and verify the response
+        mockMvc.perform(MockMvcRequestBuilders.get("/posts/1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.AGE, "120"))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CACHE_CONTROL, "max-age=5"));
+    }
+
+    @Test
+    void shouldReturnPageWithSelectedFields() throws Exception {
+        // Mock the service response
+        List<AuditionPost> posts = IntStream.rangeClosed(1, 3).mapToObj(id -> {
+            AuditionPost post = new AuditionPost();
+            post.setId(id);
+            post.setUserId(1);
+            post.setTitle("title " + id);
+            post.setBody("body " + id);
+            return post;
+        }).toList();
+        when(auditionService.getPosts(ArgumentMatchers.any())).thenReturn(posts);
+
+        // Perform GET request without an Accept header and verify the response
+        mockMvc.perform(MockMvcRequestBuilders.get("/posts")
+                        .param("page", "1")
+                        .param("size", "2")
+                        .param("fields", "id,title"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.header().string(CacheableResponses.TOTAL_COUNT, "3"))
+                .andExpect(MockMvcResultMatchers.content().string("[{\"id\":3,\"title\":\"title 3\"}]"));
+    }
+
+    @Test
+    void shouldStreamCommentsAsNdjson() throws Exception {
+        // Mock the service response
+        List<AuditionComment> comments = IntStream.rangeClosed(1, 2).mapToObj(id -> {
+            AuditionComment comment = new AuditionComment();
+            comment.setId(id);
+            comment.setPostId(1);
+            comment.setBody("body " + id);
+            return comment;
+        }).toList();
+        when(auditionService.getComments(ArgumentMatchers.any())).thenReturn(comments);
+
+        // Perform GET request and verify the streamed response
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/comments")
+                        .param("fields", "id")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(MockMvcResultMatchers.content().string("{\"id\":1}\n{\"id\":2}\n"));
+    }
+
+    @Test
+    void shouldReturnPostBatchWithNotFoundIds() throws Exception {
+        // Mock the service response
+        AuditionPost auditionPost = new AuditionPost();
+        auditionPost.setUserId(1);
+        auditionPost.setId(1);
+        when(auditionService.getPostsByIds(List.of("1", "999"))).thenReturn(AuditionPostBatch.builder()
+            .post(auditionPost).notFoundId("999").build());
+
+        // Perform GET request and verify the response
+        mockMvc.perform(MockMvcRequestBuilders.get("/posts")
+                        .param("ids", "1,999")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content()
+                    .string("{\"posts\":[{\"userId\":1,\"id\":1}],\"notFoundIds\":[\"999\"]}"));
+    }
+
+    @Test
+    void shouldReturnPostsWithComments() throws Exception {
+        // Mock the service response
+        AuditionComment comment = new AuditionComment();
+        comment.setId(1);
+        comment.setPostId(1);
+        when(auditionService.getPostsWithComments(ArgumentMatchers.any())).thenReturn(List.of(
+            AuditionPostComments.builder().postId(1).comment(comment).build()));
+
+        // Perform GET request and verify the response
+        mockMvc.perform(MockMvcRequestBuilders.get("/posts/with-comments")
+                        .param("userId", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content()
+                    .string("[{\"postId\":1,\"id\":0,\"comments\":[{\"postId\":1,\"id\":1}]}]"));
+    }
 }
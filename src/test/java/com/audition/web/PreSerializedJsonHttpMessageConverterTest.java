@@ -0,0 +1,94 @@
+package com.audition.web;
+
+import com.audition.common.cache.CachedValues;
+import com.audition.model.AuditionPost;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PreSerializedJsonHttpMessageConverterTest {
+
+    @Test
+    void shouldWriteCachedBodyWithETag() throws Exception {
+        // Mock data
+        AuditionPost post = new AuditionPost();
+        post.setId(1);
+        post.setUserId(1);
+        List<AuditionPost> posts = CachedValues.add(List.of(post));
+        PreSerializedJsonHttpMessageConverter converter = new PreSerializedJsonHttpMessageConverter(
+            new ObjectMapper(), new SerializedResponseCache(true, 10, null));
+
+        MockHttpOutputMessage first = new MockHttpOutputMessage();
+        converter.write(posts, MediaType.APPLICATION_JSON, first);
+        MockHttpOutputMessage second = new MockHttpOutputMessage();
+        converter.write(posts, MediaType.APPLICATION_JSON, second);
+
+        assertEquals("[{\"userId\":1,\"id\":1,\"title\":null,\"body\":null}]", second.getBodyAsString());
+        assertNotNull(second.getHeaders().getETag());
+        assertEquals(first.getHeaders().getETag(), second.getHeaders().getETag());
+    }
+
+    @Test
+    void shouldSerializeEachInstanceOnce() {
+        SerializedResponseCache cache = new SerializedResponseCache(true, 10, null);
+        AtomicInteger serializations = new AtomicInteger();
+        Object value = CachedValues.add(List.of("a"));
+
+        SerializedResponseCache.SerializedResponse first = cache.get(value, v -> {
+            serializations.incrementAndGet();
+            return new byte[] {1};
+        });
+        SerializedResponseCache.SerializedResponse second = cache.get(value, v -> {
+            serializations.incrementAndGet();
+            return new byte[] {2};
+        });
+
+        assertSame(first, second);
+        assertEquals(1, serializations.get());
+    }
+
+    @Test
+    void shouldNotCacheValuesBuiltPerRequest() {
+        SerializedResponseCache cache = new SerializedResponseCache(true, 10, null);
+        AtomicInteger serializations = new AtomicInteger();
+        Object value = List.of("a");
+
+        SerializedResponseCache.SerializedResponse forETag = cache.get(value, v -> {
+            serializations.incrementAndGet();
+            return new byte[] {1};
+        });
+        SerializedResponseCache.SerializedResponse forBody = cache.forWrite(value, v -> new byte[] {2});
+
+        assertSame(forETag, forBody);
+        assertNull(cache.forWrite(value, v -> new byte[] {2}));
+        cache.get(value, v -> {
+            serializations.incrementAndGet();
+            return new byte[] {1};
+        });
+        assertEquals(2, serializations.get());
+    }
+
+    @Test
+    void shouldWriteUncachedValuesWithJackson() throws Exception {
+        // Mock data
+        AuditionPost post = new AuditionPost();
+        post.setId(1);
+        PreSerializedJsonHttpMessageConverter converter = new PreSerializedJsonHttpMessageConverter(
+            new ObjectMapper(), new SerializedResponseCache(true, 10, null));
+
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(List.of(post), MediaType.APPLICATION_JSON, output);
+
+        assertEquals("[{\"userId\":0,\"id\":1,\"title\":null,\"body\":null}]", output.getBodyAsString());
+        assertNull(output.getHeaders().getETag());
+    }
+}
@@ -0,0 +1,93 @@
+package com.audition.web;
+
+import com.audition.model.AuditionComment;
+import com.audition.service.AuditionService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that {@code GET /comments} is gzipped when the client accepts it, over HTTP/1.1 and h2c. The JDK client does
+ * not decompress, so the body length read is what crossed the wire. Encoding cost and ratio are measured by the JMH
+ * {@code ResponseCompressionBenchmark}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ResponseCompressionTest {
+
+    private static final int COMMENTS = 500;
+
+    @LocalServerPort
+    private transient int port;
+
+    @MockBean
+    private transient AuditionService auditionService;
+
+    @Test
+    void shouldSendFewerBytesWhenCompressed() throws Exception {
+        // Mock data, shaped like the upstream's unfiltered comment list
+        List<AuditionComment> comments = IntStream.rangeClosed(1, COMMENTS)
+            .mapToObj(ResponseCompressionTest::comment).toList();
+        when(auditionService.getComments(ArgumentMatchers.any())).thenReturn(comments);
+
+        HttpResponse<byte[]> identity = get(HttpClient.Version.HTTP_1_1, "identity");
+        HttpResponse<byte[]> gzip = get(HttpClient.Version.HTTP_1_1, "gzip");
+
+        assertEquals(Optional.empty(), identity.headers().firstValue(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(Optional.of("gzip"), gzip.headers().firstValue(HttpHeaders.CONTENT_ENCODING));
+        assertTrue(gzip.body().length < identity.body().length / 4);
+    }
+
+    @Test
+    void shouldCompressOverH2c() throws Exception {
+        // Mock data
+        List<AuditionComment> comments = IntStream.rangeClosed(1, COMMENTS)
+            .mapToObj(ResponseCompressionTest::comment).toList();
+        when(auditionService.getComments(ArgumentMatchers.any())).thenReturn(comments);
+
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build();
+        // the first request upgrades the connection, the second one is sent over h2c
+        send(client, "gzip");
+        HttpResponse<byte[]> response = send(client, "gzip");
+
+        assertEquals(HttpClient.Version.HTTP_2, response.version());
+        assertEquals(Optional.of("gzip"), response.headers().firstValue(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    private HttpResponse<byte[]> get(final HttpClient.Version version, final String encoding) throws Exception {
+        return send(HttpClient.newBuilder().version(version).build(), encoding);
+    }
+
+    private HttpResponse<byte[]> send(final HttpClient client, final String encoding) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/comments"))
+            .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+            .header(HttpHeaders.ACCEPT_ENCODING, encoding)
+            .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static AuditionComment comment(final int id) {
+        AuditionComment comment = new AuditionComment();
+        comment.setId(id);
+        comment.setPostId((id - 1) / 5 + 1);
+        comment.setName("commenter name " + id);
+        comment.setEmail("user" + id + "@example.com");
+        comment.setBody(("text of comment " + id + " on the post it belongs to ").repeat(4));
+        return comment;
+    }
+}